@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# 등록 내역 내보내기(/api/export/enrollments) 처리량과 서버 메모리 측정
+#
+# 사용법:
+#   SERVER_PID=$(pgrep -f server1) ROWS=2000000 bench/export-stream.sh
+#
+# 1. 벤치마크 전용 강좌(id 900000001)에 ROWS 건의 등록 행을 넣는다 (공유 Postgres 컨테이너).
+# 2. CSV, CSV+gzip, NDJSON 형식으로 각각 내보내며 소요 시간/응답 크기와 서버 RSS 최대값(KB)을 기록한다.
+#    RSS는 ROWS를 바꿔도 거의 같아야 한다 (커서 한 묶음 + 출력 버퍼만 사용).
+# 3. 넣은 행을 지운다.
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8081}"
+ROWS="${ROWS:-1000000}"
+SERVER_PID="${SERVER_PID:-}"
+PSQL="${PSQL:-docker exec -i pg-stresstest psql -U app -d stresstest -q}"
+COURSE_ID=900000001
+
+cleanup() {
+  $PSQL <<SQL
+DELETE FROM enrollments WHERE course_id = $COURSE_ID;
+DELETE FROM courses WHERE id = $COURSE_ID;
+SQL
+}
+trap cleanup EXIT
+
+# 시퀀스가 닿지 않는 식별자 범위를 사용
+$PSQL <<SQL
+INSERT INTO courses (id, name, capacity, current_enrollment) VALUES ($COURSE_ID, 'export-bench', $ROWS, $ROWS);
+INSERT INTO enrollments (id, user_id, course_id, enrolled_at, status)
+SELECT 900000000000 + g, g, $COURSE_ID, now() - (g || ' milliseconds')::interval, 'SUCCESS'
+FROM generate_series(1, $ROWS) AS g;
+ANALYZE enrollments;
+SQL
+
+rss_kb() {
+  if [ -n "$SERVER_PID" ]; then ps -o rss= -p "$SERVER_PID" | tr -d ' '; else echo "-"; fi
+}
+
+printf "%-10s %10s %12s %10s %12s %12s\n" "format" "rows" "bytes" "sec" "rssBeforeKB" "rssPeakKB"
+for variant in "csv false" "csv true" "ndjson false"; do
+  set -- $variant
+  before="$(rss_kb)"
+  peak="$before"
+  start="$(date +%s.%N)"
+  curl -sf -o /tmp/export-bench.out "$BASE_URL/api/export/enrollments?courseId=$COURSE_ID&format=$1&gzip=$2" &
+  curl_pid=$!
+  while kill -0 "$curl_pid" 2>/dev/null; do
+    current="$(rss_kb)"
+    if [ "$current" != "-" ] && [ "$current" -gt "$peak" ]; then peak="$current"; fi
+    sleep 0.2
+  done
+  wait "$curl_pid"
+  end="$(date +%s.%N)"
+  bytes="$(stat -c %s /tmp/export-bench.out 2>/dev/null || stat -f %z /tmp/export-bench.out)"
+  label="$1"; [ "$2" = "true" ] && label="$1.gz"
+  printf "%-10s %10d %12d %10.2f %12s %12s\n" "$label" "$ROWS" "$bytes" "$(echo "$end - $start" | bc)" "$before" "$peak"
+done
+rm -f /tmp/export-bench.out
+curl -s "$BASE_URL/api/export/status"; echo
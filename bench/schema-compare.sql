@@ -0,0 +1,71 @@
+-- 스키마 변경 전/후 비교 벤치마크 (PostgreSQL)
+-- 실행: docker exec -i pg-stresstest psql -U app -d stresstest < bench/schema-compare.sql
+--
+-- legacy_*: 변경 전 (IDENTITY ID, (user_id, course_id) 인덱스 없음)
+-- pooled_*: 변경 후 (increment 50 시퀀스, 유니크 인덱스)
+-- 임시 스키마에서 수행하므로 서비스 테이블에는 영향이 없다.
+--
+-- 이 스크립트는 SQL 수준의 인덱스 유지 비용과 조회 계획만 비교한다. pooled_* 의 INSERT는 ID를 직접 채우므로
+-- 시퀀스 호출이나 Hibernate/JDBC 배치를 거치지 않는다. ID 발급 방식과 배치에 따른 INSERT 처리량은
+-- jpa-bench 모듈(./gradlew :jpa-bench:runJpaBench)이 saveAll 로 측정한다.
+
+\timing on
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path TO bench;
+
+CREATE TABLE legacy_enrollments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT      NOT NULL,
+    course_id   BIGINT      NOT NULL,
+    enrolled_at TIMESTAMP   NOT NULL,
+    status      VARCHAR(16) NOT NULL
+);
+
+CREATE SEQUENCE pooled_enrollments_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE pooled_enrollments (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    user_id     BIGINT      NOT NULL,
+    course_id   BIGINT      NOT NULL,
+    enrolled_at TIMESTAMP   NOT NULL,
+    status      VARCHAR(16) NOT NULL
+);
+CREATE UNIQUE INDEX ux_pooled_user_course ON pooled_enrollments (user_id, course_id);
+
+-- 1) 대량 INSERT (100만 건, 사용자 10만 x 강좌 10)
+\echo '--- insert: legacy (identity, no index)'
+INSERT INTO legacy_enrollments (user_id, course_id, enrolled_at, status)
+SELECT u, c, now(), 'SUCCESS' FROM generate_series(1, 100000) u, generate_series(1, 10) c;
+
+-- pooled: ID는 row_number()로 직접 채움 (유니크 인덱스 유지 비용만 반영)
+\echo '--- insert: pooled (explicit ids, unique index maintained)'
+INSERT INTO pooled_enrollments (id, user_id, course_id, enrolled_at, status)
+SELECT row_number() OVER (), u, c, now(), 'SUCCESS' FROM generate_series(1, 100000) u, generate_series(1, 10) c;
+
+ANALYZE legacy_enrollments;
+ANALYZE pooled_enrollments;
+
+-- 2) 중복 신청 확인 (existsByUserIdAndCourseId)
+\echo '--- duplicate check: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT 1 FROM legacy_enrollments WHERE user_id = 54321 AND course_id = 7 LIMIT 1;
+
+\echo '--- duplicate check: pooled'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT 1 FROM pooled_enrollments WHERE user_id = 54321 AND course_id = 7 LIMIT 1;
+
+-- 3) 사용자별 조회 (findByUserId)
+\echo '--- user lookup: legacy'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM legacy_enrollments WHERE user_id = 54321;
+
+\echo '--- user lookup: pooled'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM pooled_enrollments WHERE user_id = 54321;
+
+-- 4) 참고: 풀링 시퀀스가 건당 호출하는 nextval 수 (IDENTITY는 INSERT마다, 풀링 시퀀스는 50건마다 1회)
+--    실제 INSERT 처리량 차이는 jpa-bench 모듈 결과를 본다.
+\echo '--- id allocation: one nextval per row vs one per 50 rows'
+SELECT count(nextval('pooled_enrollments_seq')) FROM generate_series(1, 100000 / 50);
+
+DROP SCHEMA bench CASCADE;
@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# 프로세스 유형별 기동 시간과 RSS 측정
+#
+# 사용법:
+#   ./gradlew :loadbalancer:bootJar :server:bootJar
+#   bench/startup-rss.sh                      # 분리된 로드밸런서/서버 측정
+#   BASELINE_JAR=old.jar bench/startup-rss.sh # 분리 전 단일 jar(lb, server1 프로필)도 함께 측정
+#
+# 각 프로세스를 RUNS 회 기동하여 Spring Boot가 출력하는 "Started ... in N seconds"와
+# 기동 완료 SETTLE_SEC 초 후의 RSS(KB)를 기록한다. 서버 측정에는 DB가 필요하다(기본: server1 프로필의 Postgres).
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${RUNS:-5}"
+SETTLE_SEC="${SETTLE_SEC:-5}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+LB_JAR="${LB_JAR:-$(ls "$ROOT"/loadbalancer/build/libs/loadbalancer-*.jar | grep -v plain | head -1)}"
+SERVER_JAR="${SERVER_JAR:-$(ls "$ROOT"/server/build/libs/server-*.jar | grep -v plain | head -1)}"
+LOG_DIR="$(mktemp -d)"
+
+# $1: 이름, $2: 포트, 나머지: java 인자
+measure() {
+  local name="$1" port="$2"
+  shift 2
+  for run in $(seq 1 "$RUNS"); do
+    local log="$LOG_DIR/$name-$run.log"
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS "$@" --server.port="$port" > "$log" 2>&1 &
+    local pid=$!
+    local waited=0
+    until grep -q "Started .* in " "$log"; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$name run $run: process exited, see $log" >&2
+        return 1
+      fi
+      sleep 0.2
+      waited=$((waited + 1))
+      if [ "$waited" -gt 600 ]; then
+        echo "$name run $run: startup timeout, see $log" >&2
+        kill "$pid"
+        return 1
+      fi
+    done
+    sleep "$SETTLE_SEC"
+    local started rss
+    started="$(grep -o "Started .* in [0-9.]* seconds" "$log" | grep -o "in [0-9.]*" | cut -d' ' -f2)"
+    rss="$(ps -o rss= -p "$pid" | tr -d ' ')"
+    printf "%-16s run=%d startup_s=%s rss_kb=%s\n" "$name" "$run" "$started" "$rss"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+}
+
+measure loadbalancer 18080 -jar "$LB_JAR"
+measure server 18081 -jar "$SERVER_JAR" --spring.profiles.active=server1
+
+if [ -n "${BASELINE_JAR:-}" ]; then
+  measure baseline-lb 18080 -jar "$BASELINE_JAR" --spring.profiles.active=lb
+  measure baseline-server 18081 -jar "$BASELINE_JAR" --spring.profiles.active=server1
+fi
+
+echo "logs: $LOG_DIR"
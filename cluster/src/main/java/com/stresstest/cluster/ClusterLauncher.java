@@ -0,0 +1,207 @@
+package com.stresstest.cluster;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 수를 바꿔가며 한 JVM 클러스터에 같은 부하를 보내고 서버 수별 처리량/지연을 출력하는 런처
+ * - 서버 수마다 새 클러스터와 새 DB로 기동 → 강좌 생성 → 워밍업 → 측정 → 큐 소진 대기 → 종료
+ * - HTTP 지표는 로드밸런서 응답(신청은 큐 적재 응답) 기준이고, processed/s는 서버 큐에서 실제 처리된 건수를
+ *   측정 시작부터 큐가 빌 때까지의 시간으로 나눈 값이다.
+ *
+ * 사용 예:
+ * ./gradlew :cluster:runCluster -PclusterArgs="--servers=1,3,8 --rate=500 --duration=30s"
+ * ./gradlew :cluster:runCluster -PclusterArgs="--servers=1,2,4 --server:queue.processing.mode=partitioned --db=file"
+ *
+ * 옵션:
+ * --servers=1,2,4      측정할 서버 수 목록
+ * --rate=500           초당 요청 수
+ * --duration=30s       측정 구간 길이 (ms/s/m 단위, 숫자만 주면 초)
+ * --warmup=5s          측정 전 워밍업 구간 (0이면 생략)
+ * --users=100000       사용자 식별자 범위
+ * --courses=10         생성할 강좌 수
+ * --capacity=1000000   강좌 정원 (작게 주면 대기자 경로가 섞인다)
+ * --get-ratio=0.1      조회 요청 비율
+ * --max-inflight=2000  동시 미완료 요청 상한
+ * --timeout-ms=10000   요청별 응답 기한
+ * --drain-timeout=60s  측정 후 큐 소진 대기 상한
+ * --db=mem|file        공유 H2 종류, --db-dir=build/cluster-db 파일 DB 위치
+ * --server:키=값       서버 컨텍스트 설정 (예: --server:queue.limiter.algorithm=vegas)
+ * --lb:키=값           로드밸런서 컨텍스트 설정 (예: --lb:loadbalancer.get.hedging=false)
+ */
+public class ClusterLauncher {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> serverProps = new LinkedHashMap<>();
+        Map<String, String> lbProps = new LinkedHashMap<>();
+        Map<String, String> options = parseArgs(args, serverProps, lbProps);
+
+        List<Integer> serverCounts = new ArrayList<>();
+        for (String count : options.getOrDefault("servers", "1,2,4").split(",")) {
+            serverCounts.add(Integer.parseInt(count.trim()));
+        }
+        int rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "30s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "5s"));
+        long users = Long.parseLong(options.getOrDefault("users", "100000"));
+        int courses = Integer.parseInt(options.getOrDefault("courses", "10"));
+        int capacity = Integer.parseInt(options.getOrDefault("capacity", "1000000"));
+        double getRatio = Double.parseDouble(options.getOrDefault("get-ratio", "0.1"));
+        int maxInflight = Integer.parseInt(options.getOrDefault("max-inflight", "2000"));
+        Duration requestTimeout = Duration.ofMillis(Long.parseLong(options.getOrDefault("timeout-ms", "10000")));
+        Duration drainTimeout = parseDuration(options.getOrDefault("drain-timeout", "60s"));
+        Path dbDir = "file".equalsIgnoreCase(options.getOrDefault("db", "mem"))
+                ? Paths.get(options.getOrDefault("db-dir", "build/cluster-db"))
+                : null;
+
+        List<Measurement> measurements = new ArrayList<>();
+        for (int serverCount : serverCounts) {
+            System.out.printf("=== %d server(s): rate=%d/s, duration=%ds, warmup=%ds ===%n",
+                    serverCount, rate, duration.toSeconds(), warmup.toSeconds());
+            try (EmbeddedCluster cluster = EmbeddedCluster.start(
+                    serverCount, "cluster_" + serverCount, dbDir, serverProps, lbProps)) {
+                List<Long> courseIds = createCourses(cluster.getServerUrls().get(0), courses, capacity);
+                ClusterLoadGenerator generator = new ClusterLoadGenerator(
+                        cluster.getLbUrl(), courseIds, rate, users, getRatio, maxInflight, requestTimeout);
+
+                if (!warmup.isZero()) {
+                    generator.run(warmup);
+                    awaitDrain(cluster, drainTimeout);
+                }
+
+                long processedBefore = cluster.getProcessedCount();
+                long expiredBefore = cluster.getExpiredCount();
+                long startNanos = System.nanoTime();
+                ClusterLoadGenerator.Result result = generator.run(duration);
+                boolean drained = awaitDrain(cluster, drainTimeout);
+                double processingSec = (System.nanoTime() - startNanos) / 1e9;
+
+                Measurement measurement = new Measurement(serverCount, result,
+                        cluster.getProcessedCount() - processedBefore,
+                        cluster.getExpiredCount() - expiredBefore,
+                        processingSec, drained);
+                measurements.add(measurement);
+                printHeader();
+                measurement.print();
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Summary ===");
+        printHeader();
+        measurements.forEach(Measurement::print);
+        System.exit(0);
+    }
+
+    /** 첫 서버에 측정용 강좌를 만들고 식별자 목록을 반환 */
+    private static List<Long> createCourses(String serverUrl, int count, int capacity) {
+        WebClient client = WebClient.create(serverUrl);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> course = new HashMap<>();
+            course.put("name", "cluster-course-" + (i + 1));
+            course.put("capacity", capacity);
+            Map<?, ?> created = client.post()
+                    .uri("/api/courses")
+                    .bodyValue(course)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block(Duration.ofSeconds(30));
+            ids.add(((Number) created.get("id")).longValue());
+        }
+        return ids;
+    }
+
+    /** 모든 서버 큐가 빌 때까지 대기. 기한 안에 비지 않으면 false */
+    private static boolean awaitDrain(EmbeddedCluster cluster, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!cluster.isDrained()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(20);
+        }
+        return true;
+    }
+
+    private static void printHeader() {
+        System.out.printf("%7s %8s %8s %8s %7s %7s %7s %9s %8s %8s %8s %8s %9s %8s %11s %7s%n",
+                "servers", "offered", "sent", "2xx", "non2xx", "errors", "skipped", "http/s",
+                "p50ms", "p95ms", "p99ms", "maxms", "processed", "expired", "processed/s", "drained");
+    }
+
+    /**
+     * 서버 수 하나에 대한 측정 결과
+     */
+    static class Measurement {
+        private final int servers;
+        private final ClusterLoadGenerator.Result result;
+        private final long processed;
+        private final long expired;
+        private final double processingSec;
+        private final boolean drained;
+
+        Measurement(int servers, ClusterLoadGenerator.Result result, long processed, long expired,
+                    double processingSec, boolean drained) {
+            this.servers = servers;
+            this.result = result;
+            this.processed = processed;
+            this.expired = expired;
+            this.processingSec = processingSec;
+            this.drained = drained;
+        }
+
+        void print() {
+            System.out.printf("%7d %8d %8d %8d %7d %7d %7d %9.1f %8.1f %8.1f %8.1f %8.1f %9d %8d %11.1f %7s%n",
+                    servers, result.getOfferedRate(), result.getSent(), result.getSucceeded(),
+                    result.getRejected(), result.getErrors(), result.getSkipped(), result.getThroughput(),
+                    result.getLatencyMs(50), result.getLatencyMs(95), result.getLatencyMs(99),
+                    result.getMaxLatencyMs(), processed, expired, processed / Math.max(processingSec, 1e-9),
+                    drained ? "yes" : "no");
+        }
+    }
+
+    /** "500ms", "30s", "2m" 또는 초 단위 숫자 */
+    static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+
+    /** --key=value 형태의 인자를 파싱. server:/lb: 접두사 설정은 각 컨텍스트용 맵으로 분리 */
+    static Map<String, String> parseArgs(String[] args, Map<String, String> serverProps, Map<String, String> lbProps) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            String key = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            String value = eq < 0 ? "true" : arg.substring(eq + 1);
+            if (key.startsWith("server:")) {
+                serverProps.put(key.substring("server:".length()), value);
+            } else if (key.startsWith("lb:")) {
+                lbProps.put(key.substring("lb:".length()), value);
+            } else {
+                options.put(key, value);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,170 @@
+package com.stresstest.cluster;
+
+import com.stresstest.metrics.LatencyHistogram;
+import com.stresstest.model.EnrollmentRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로드밸런서에 고정 도착률(open-loop)로 요청을 보내는 부하 생성기
+ * - 요청은 예정 시각에 발사하며, 지연은 예정 시각부터 응답 완료까지로 잰다.
+ *   (서버가 느려져 발사가 밀려도 그 대기가 지연에 포함되어 coordinated omission을 피한다)
+ * - 동시 미완료 요청이 상한에 닿으면 해당 회차는 보내지 않고 skipped로 센다.
+ * - 요청 종류: POST /lb/enroll (임의 사용자/강좌/우선순위), GET /lb/courses/{id} (getRatio 비율)
+ */
+public class ClusterLoadGenerator {
+    private final WebClient webClient;
+    private final String target;
+    private final List<Long> courseIds;
+    /** 초당 요청 수 */
+    private final int rate;
+    /** 사용자 식별자 범위 [1, users] */
+    private final long users;
+    /** 조회 요청 비율 (0~1) */
+    private final double getRatio;
+    /** 동시 미완료 요청 상한 */
+    private final int maxInflight;
+    /** 요청별 응답 기한 */
+    private final Duration requestTimeout;
+
+    public ClusterLoadGenerator(String target, List<Long> courseIds, int rate, long users,
+                                double getRatio, int maxInflight, Duration requestTimeout) {
+        this.webClient = WebClient.builder().build();
+        this.target = target;
+        this.courseIds = courseIds;
+        this.rate = rate;
+        this.users = users;
+        this.getRatio = getRatio;
+        this.maxInflight = maxInflight;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * 지정 시간 동안 부하를 보내고 미완료 요청이 모두 끝날 때까지 기다린다.
+     */
+    public Result run(Duration duration) throws InterruptedException {
+        Result result = new Result(rate);
+        Semaphore inflight = new Semaphore(maxInflight);
+        long intervalNanos = 1_000_000_000L / Math.max(rate, 1);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long dueNanos = startNanos + i * intervalNanos;
+            if (dueNanos >= endNanos) {
+                break;
+            }
+            long waitNanos = dueNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            if (!inflight.tryAcquire()) {
+                result.skipped.incrementAndGet();
+                continue;
+            }
+            fire(dueNanos, result, inflight);
+        }
+        // 남은 요청 완료 대기
+        inflight.acquire(maxInflight);
+        result.elapsedNanos = System.nanoTime() - startNanos;
+        return result;
+    }
+
+    private void fire(long dueNanos, Result result, Semaphore inflight) {
+        result.sent.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long courseId = courseIds.get(random.nextInt(courseIds.size()));
+        Mono<Integer> call;
+        if (random.nextDouble() < getRatio) {
+            call = webClient.get()
+                    .uri(target + "/lb/courses/" + courseId)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+        } else {
+            EnrollmentRequest body = new EnrollmentRequest(random.nextLong(1, users + 1), courseId, random.nextInt(100));
+            call = webClient.post()
+                    .uri(target + "/lb/enroll")
+                    .bodyValue(body)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+        }
+        call.timeout(requestTimeout)
+                .doFinally(signal -> {
+                    result.latency.record((System.nanoTime() - dueNanos) / 1_000L);
+                    inflight.release();
+                })
+                .subscribe(status -> {
+                    if (status >= 200 && status < 300) {
+                        result.succeeded.incrementAndGet();
+                    } else {
+                        result.rejected.incrementAndGet();
+                    }
+                }, error -> result.errors.incrementAndGet());
+    }
+
+    /**
+     * 한 번의 부하 구간 결과
+     */
+    public static class Result {
+        private final int offeredRate;
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        /** 예정 시각 기준 응답 지연(us) */
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long elapsedNanos;
+
+        Result(int offeredRate) {
+            this.offeredRate = offeredRate;
+        }
+
+        public int getOfferedRate() {
+            return offeredRate;
+        }
+
+        public long getSent() {
+            return sent.get();
+        }
+
+        public long getSucceeded() {
+            return succeeded.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getSkipped() {
+            return skipped.get();
+        }
+
+        public double getElapsedSec() {
+            return elapsedNanos / 1e9;
+        }
+
+        /** 2xx 응답 처리량(/s) */
+        public double getThroughput() {
+            return succeeded.get() / Math.max(getElapsedSec(), 1e-9);
+        }
+
+        /** 백분위 지연(ms) */
+        public double getLatencyMs(double percentile) {
+            return latency.percentile(percentile) / 1000.0;
+        }
+
+        public double getMaxLatencyMs() {
+            return latency.getMaxMicros() / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.stresstest.cluster;
+
+import com.stresstest.Application;
+import com.stresstest.loadbalancer.LoadBalancerApplication;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import com.stresstest.service.CoursePartitionedExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+/**
+ * 로드밸런서 1개와 서버 N개를 한 JVM의 독립된 스프링 컨텍스트로 띄우는 클러스터
+ * - 모든 컨텍스트는 임시 포트(server.port=0)로 기동하고, 로드밸런서의 loadbalancer.servers는 실제 바인딩된 포트로 채운다.
+ * - 서버들은 PostgreSQL 호환 모드의 H2 하나(메모리 또는 파일)를 공유하므로 강좌 행 락 경합이 실제 구성과 같은 방식으로 일어난다.
+ * - 서버는 순서대로 기동한다. 첫 서버가 Flyway 마이그레이션과 초기 강좌를 만들고, 이후 서버는 적용된 스키마를 그대로 쓴다.
+ */
+public class EmbeddedCluster implements AutoCloseable {
+    /** 로드밸런서 컨텍스트에서 끄는 자동 구성 (서버 모듈이 같은 클래스패스에 있어 JDBC/JPA/R2DBC가 잡히므로) */
+    private static final String LB_AUTOCONFIG_EXCLUDES = String.join(",",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+            "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+            "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration");
+
+    private final List<ConfigurableApplicationContext> serverContexts = new ArrayList<>();
+    private final List<String> serverUrls = new ArrayList<>();
+    private ConfigurableApplicationContext lbContext;
+    private String lbUrl;
+    private final String jdbcUrl;
+
+    private EmbeddedCluster(String jdbcUrl) {
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    /**
+     * 클러스터 기동
+     *
+     * @param serverCount 서버 컨텍스트 수
+     * @param dbName      공유 DB 이름 (실행마다 새 스키마가 필요하므로 서버 수별로 다르게 준다)
+     * @param dbDir       파일 DB 디렉터리. null이면 메모리 DB
+     * @param serverProps 서버 컨텍스트에 추가로 넘길 설정 (예: queue.processing.mode=partitioned)
+     * @param lbProps     로드밸런서 컨텍스트에 추가로 넘길 설정
+     */
+    public static EmbeddedCluster start(int serverCount, String dbName, Path dbDir,
+                                        Map<String, String> serverProps, Map<String, String> lbProps) throws IOException {
+        EmbeddedCluster cluster = new EmbeddedCluster(jdbcUrl(dbName, dbDir));
+        try {
+            for (int i = 0; i < serverCount; i++) {
+                cluster.startServer(i, serverProps);
+            }
+            cluster.startLoadBalancer(lbProps);
+        } catch (RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        log.info("Embedded cluster started: lb={}, servers={}", cluster.lbUrl, cluster.serverUrls);
+        return cluster;
+    }
+
+    /**
+     * 공유 DB URL
+     * - MODE=PostgreSQL 등은 Postgres 마이그레이션을 그대로 쓰기 위한 호환 설정
+     * - LOCK_TIMEOUT: 강좌 행 락 대기 상한. H2 기본값(1초)은 경합 구간에서 곧바로 실패로 이어진다.
+     * - 메모리 DB는 서버들의 커넥션 풀이 열려 있는 동안 유지되고 클러스터 종료와 함께 사라진다.
+     */
+    private static String jdbcUrl(String dbName, Path dbDir) throws IOException {
+        String options = ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;LOCK_TIMEOUT=10000";
+        if (dbDir == null) {
+            return "jdbc:h2:mem:" + dbName + options;
+        }
+        Files.createDirectories(dbDir);
+        // 이전 실행의 데이터가 측정에 섞이지 않도록 새 파일로 시작
+        Files.deleteIfExists(dbDir.resolve(dbName + ".mv.db"));
+        Files.deleteIfExists(dbDir.resolve(dbName + ".trace.db"));
+        return "jdbc:h2:file:" + dbDir.toAbsolutePath().resolve(dbName) + options;
+    }
+
+    private void startServer(int index, Map<String, String> extraProps) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.application.name=cluster-server-" + (index + 1),
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.show-sql=false",
+                // 요청마다 남는 INFO 로그가 측정 대상 경로를 지배하지 않도록
+                "--logging.level.com.stresstest=WARN"));
+        extraProps.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.SERVLET)
+                // 서버의 컴포넌트 스캔(com.stresstest)이 같은 클래스패스의 로드밸런서/런처 패키지를 잡지 않도록
+                .initializers(ctx -> ctx.getBeanFactory()
+                        .registerSingleton("clusterExcludeFilter", new ServerScanExcludeFilter()))
+                .run(args.toArray(String[]::new));
+        serverContexts.add(context);
+        serverUrls.add("http://localhost:" + portOf(context));
+    }
+
+    private void startLoadBalancer(Map<String, String> extraProps) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.name=" + LoadBalancerApplication.CONFIG_NAME,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.autoconfigure.exclude=" + LB_AUTOCONFIG_EXCLUDES,
+                "--loadbalancer.servers=" + String.join(",", serverUrls),
+                "--loadbalancer.capture.enabled=false",
+                "--logging.level.com.stresstest=WARN"));
+        extraProps.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        lbContext = new SpringApplicationBuilder(LoadBalancerApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args.toArray(String[]::new));
+        lbUrl = "http://localhost:" + portOf(lbContext);
+    }
+
+    private static int portOf(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * 모든 서버의 큐가 비고 처리 중인 요청이 없는지 확인
+     */
+    public boolean isDrained() {
+        for (ConfigurableApplicationContext context : serverContexts) {
+            PriorityEnrollmentQueue queue = context.getBean(PriorityEnrollmentQueue.class);
+            CoursePartitionedExecutor executor = context.getBean(CoursePartitionedExecutor.class);
+            if (queue.getQueueSize() > 0 || queue.getCurrentProcessing() > 0 || executor.getPendingCount() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 서버 전체 누적 처리 건수 (성공/실패 포함, 기한 만료 제외)
+     */
+    public long getProcessedCount() {
+        long total = 0;
+        for (ConfigurableApplicationContext context : serverContexts) {
+            total += context.getBean(PriorityEnrollmentQueue.class).getProcessedCount();
+        }
+        return total;
+    }
+
+    /**
+     * 서버 전체 누적 기한 만료 건수
+     */
+    public long getExpiredCount() {
+        long total = 0;
+        for (ConfigurableApplicationContext context : serverContexts) {
+            total += context.getBean(PriorityEnrollmentQueue.class).getExpiredCount();
+            total += context.getBean(CoursePartitionedExecutor.class).getExpiredCount();
+        }
+        return total;
+    }
+
+    public String getLbUrl() {
+        return lbUrl;
+    }
+
+    public List<String> getServerUrls() {
+        return serverUrls;
+    }
+
+    /** 로드밸런서를 먼저 내려 새 요청을 막은 뒤 서버를 역순으로 종료 */
+    @Override
+    public void close() {
+        if (lbContext != null) {
+            lbContext.close();
+        }
+        for (int i = serverContexts.size() - 1; i >= 0; i--) {
+            serverContexts.get(i).close();
+        }
+        serverContexts.clear();
+        serverUrls.clear();
+    }
+
+    /**
+     * 서버 컨텍스트의 컴포넌트 스캔에서 로드밸런서/런처 패키지를 제외하는 필터
+     * TypeExcludeFilter 빈으로 등록하면 @SpringBootApplication의 스캔이 위임하여 사용한다.
+     */
+    static class ServerScanExcludeFilter extends TypeExcludeFilter {
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            String className = metadataReader.getClassMetadata().getClassName();
+            return className.startsWith("com.stresstest.loadbalancer.") || className.startsWith("com.stresstest.cluster.");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && obj.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.stresstest.jpabench;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+/**
+ * 스키마 변경 전/후 INSERT 처리량 벤치마크 진입점
+ * - 변경 전: IDENTITY ID (INSERT마다 생성 키 조회 → Hibernate가 JDBC 배치를 끈다), 중복 확인 인덱스 없음
+ * - 변경 후: increment 50 풀링 시퀀스 ID + hibernate.jdbc.batch_size, (user_id, course_id) 유니크 인덱스
+ * 두 매핑에 같은 건수를 saveAll 로 넣어 처리량과 JDBC 문장 수를 비교하고, 중복 확인 조회 비용을 함께 기록한다.
+ *
+ * 사용 예:
+ * ./gradlew :jpa-bench:runJpaBench -PjpaBenchArgs="--bench.rows=200000 --bench.rounds=3"
+ */
+public class JpaBenchApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(JpaBenchApplication.class, args)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.stresstest.jpabench;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "legacy_enrollments", schema = "bench_jpa")
+/**
+ * 변경 전 매핑: IDENTITY ID
+ */
+public class LegacyEnrollment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private LocalDateTime enrolledAt;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    protected LegacyEnrollment() {
+    }
+
+    public LegacyEnrollment(Long userId, Long courseId, LocalDateTime enrolledAt, String status) {
+        this.userId = userId;
+        this.courseId = courseId;
+        this.enrolledAt = enrolledAt;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,10 @@
+package com.stresstest.jpabench;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 변경 전 매핑 저장소
+ */
+public interface LegacyEnrollmentRepository extends JpaRepository<LegacyEnrollment, Long> {
+    boolean existsByUserIdAndCourseId(Long userId, Long courseId);
+}
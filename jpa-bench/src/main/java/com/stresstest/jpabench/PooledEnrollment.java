@@ -0,0 +1,43 @@
+package com.stresstest.jpabench;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pooled_enrollments", schema = "bench_jpa")
+/**
+ * 변경 후 매핑: 풀링 시퀀스 ID (서버의 Enrollment와 같은 allocationSize)
+ */
+public class PooledEnrollment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_pooled_seq")
+    @SequenceGenerator(name = "bench_pooled_seq", schema = "bench_jpa", sequenceName = "pooled_enrollments_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private LocalDateTime enrolledAt;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    protected PooledEnrollment() {
+    }
+
+    public PooledEnrollment(Long userId, Long courseId, LocalDateTime enrolledAt, String status) {
+        this.userId = userId;
+        this.courseId = courseId;
+        this.enrolledAt = enrolledAt;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
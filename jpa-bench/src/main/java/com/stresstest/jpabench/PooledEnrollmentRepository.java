@@ -0,0 +1,10 @@
+package com.stresstest.jpabench;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 변경 후 매핑 저장소
+ */
+public interface PooledEnrollmentRepository extends JpaRepository<PooledEnrollment, Long> {
+    boolean existsByUserIdAndCourseId(Long userId, Long courseId);
+}
@@ -0,0 +1,190 @@
+package com.stresstest.jpabench;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+/**
+ * 변경 전/후 매핑에 같은 데이터를 saveAll 로 넣어 비교하고 결과를 마크다운으로 기록하는 러너
+ * - 라운드마다 두 테이블을 비우고 같은 (user_id, course_id) 조합을 chunk 건씩 트랜잭션으로 저장한다.
+ * - JDBC 문장 수는 Hibernate 통계(prepareStatementCount)로 센다. IDENTITY는 건마다 INSERT 한 번,
+ *   풀링 시퀀스는 batch_size 건마다 배치 한 번 + allocationSize 건마다 nextval 한 번이 된다.
+ * - 마지막 라운드 데이터로 중복 확인 조회(existsByUserIdAndCourseId)의 실행 계획/시간과 저장소 호출 평균 지연을 잰다.
+ */
+public class SchemaBenchRunner implements ApplicationRunner {
+    private static final String SCHEMA = "bench_jpa";
+
+    @Value("${bench.rows:200000}")
+    private int rows;
+    @Value("${bench.courses:10}")
+    private int courses;
+    @Value("${bench.chunk:1000}")
+    private int chunk;
+    @Value("${bench.rounds:3}")
+    private int rounds;
+    @Value("${bench.lookups:2000}")
+    private int lookups;
+    @Value("${bench.out:build/jpa-bench-report.md}")
+    private String out;
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:0}")
+    private int batchSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final LegacyEnrollmentRepository legacyRepository;
+    private final PooledEnrollmentRepository pooledRepository;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        createSchema();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> report = new ArrayList<>();
+        report.add("# IDENTITY vs pooled sequence + JDBC batching");
+        report.add("");
+        report.add("- database: " + jdbcTemplate.queryForObject("SELECT version()", String.class));
+        report.add("- rows/round: " + rows + " (" + courses + " courses), saveAll chunk: " + chunk
+                + ", hibernate.jdbc.batch_size: " + batchSize + ", rounds: " + rounds + " (+1 warmup)");
+        report.add("");
+        report.add("| mapping | round | ms | rows/s | jdbc statements |");
+        report.add("|---|---|---|---|---|");
+
+        for (int round = 0; round <= rounds; round++) {
+            jdbcTemplate.execute("TRUNCATE " + SCHEMA + ".legacy_enrollments, " + SCHEMA + ".pooled_enrollments");
+            InsertResult legacy = insert(statistics, (start, end) -> legacyRepository.saveAll(
+                    entities(start, end, (userId, courseId) -> new LegacyEnrollment(userId, courseId, LocalDateTime.now(), "SUCCESS"))));
+            InsertResult pooled = insert(statistics, (start, end) -> pooledRepository.saveAll(
+                    entities(start, end, (userId, courseId) -> new PooledEnrollment(userId, courseId, LocalDateTime.now(), "SUCCESS"))));
+            if (round == 0) {
+                log.info("Warmup done: legacy={}ms, pooled={}ms", legacy.millis, pooled.millis);
+                continue;
+            }
+            report.add(legacy.row("identity (before)", round));
+            report.add(pooled.row("pooled seq + batch (after)", round));
+        }
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".legacy_enrollments");
+        jdbcTemplate.execute("ANALYZE " + SCHEMA + ".pooled_enrollments");
+
+        report.add("");
+        report.add("## Duplicate check (existsByUserIdAndCourseId)");
+        report.add("");
+        report.add("| mapping | repository avg us/call |");
+        report.add("|---|---|");
+        report.add("| identity, no index (before) | " + lookupMicros(legacyRepository::existsByUserIdAndCourseId) + " |");
+        report.add("| unique (user_id, course_id) (after) | " + lookupMicros(pooledRepository::existsByUserIdAndCourseId) + " |");
+        report.add("");
+        explain(report, "legacy_enrollments", "before");
+        explain(report, "pooled_enrollments", "after");
+
+        Path path = Paths.get(out);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, report);
+        report.forEach(System.out::println);
+        log.info("Report written to {}", path.toAbsolutePath());
+    }
+
+    /** 비교용 스키마를 새로 만든다 (변경 전: 인덱스 없음, 변경 후: 유니크 인덱스) */
+    private void createSchema() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".legacy_enrollments ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + "course_id BIGINT NOT NULL, enrolled_at TIMESTAMP NOT NULL, status VARCHAR(16) NOT NULL)");
+        // 라운드 사이에 시퀀스를 되돌리지 않는다 (Hibernate가 미리 받아 둔 ID 범위와 겹치지 않도록)
+        jdbcTemplate.execute("CREATE SEQUENCE " + SCHEMA + ".pooled_enrollments_seq START WITH 1 INCREMENT BY 50");
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".pooled_enrollments ("
+                + "id BIGINT NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL, "
+                + "course_id BIGINT NOT NULL, enrolled_at TIMESTAMP NOT NULL, status VARCHAR(16) NOT NULL)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX ux_bench_pooled_user_course ON "
+                + SCHEMA + ".pooled_enrollments (user_id, course_id)");
+    }
+
+    /** rows 건을 chunk 건씩 트랜잭션으로 저장(saveAll)하고 소요 시간과 JDBC 문장 수를 잰다 */
+    private InsertResult insert(Statistics statistics, BiConsumer<Integer, Integer> saveChunk) {
+        statistics.clear();
+        long startNanos = System.nanoTime();
+        for (int from = 0; from < rows; from += chunk) {
+            int start = from;
+            int end = Math.min(rows, from + chunk);
+            transactionTemplate.executeWithoutResult(tx -> saveChunk.accept(start, end));
+        }
+        long millis = (System.nanoTime() - startNanos) / 1_000_000L;
+        return new InsertResult(rows, millis, statistics.getPrepareStatementCount());
+    }
+
+    /** [start, end) 번째 (사용자, 강좌) 조합의 엔티티 목록 */
+    private <T> List<T> entities(int start, int end, BiFunction<Long, Long, T> factory) {
+        List<T> entities = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            entities.add(factory.apply((long) (i / courses) + 1, (long) (i % courses) + 1));
+        }
+        return entities;
+    }
+
+    /** 무작위 (사용자, 강좌) 조합의 중복 확인 저장소 호출 평균 지연(us) */
+    private long lookupMicros(BiFunction<Long, Long, Boolean> exists) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long users = Math.max(1, rows / courses);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            exists.apply(random.nextLong(1, users + 1), random.nextLong(1, courses + 1));
+        }
+        return (System.nanoTime() - startNanos) / 1_000L / Math.max(1, lookups);
+    }
+
+    private void explain(List<String> report, String table, String label) {
+        long userId = Math.max(1, rows / courses / 2);
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM " + SCHEMA + "."
+                + table + " WHERE user_id = " + userId + " AND course_id = 1 LIMIT 1", String.class);
+        report.add("### EXPLAIN " + table + " (" + label + ")");
+        report.add("");
+        report.add("```");
+        report.addAll(plan);
+        report.add("```");
+        report.add("");
+    }
+
+    /**
+     * 한 라운드의 INSERT 결과
+     */
+    static class InsertResult {
+        private final int rows;
+        private final long millis;
+        private final long statements;
+
+        InsertResult(int rows, long millis, long statements) {
+            this.rows = rows;
+            this.millis = millis;
+            this.statements = statements;
+        }
+
+        String row(String mapping, int round) {
+            long rowsPerSec = rows * 1000L / Math.max(1, millis);
+            return "| " + mapping + " | " + round + " | " + millis + " | " + rowsPerSec + " | " + statements + " |";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+
+// 장바구니 신청 시나리오: 학생 한 명이 여러 강좌를 한 번에 신청
+// CART=0 이면 같은 강좌 묶음을 강좌별 /lb/enroll 요청으로 나눠 보내 비교한다.
+export const options = {
+  scenarios: {
+    cart: {
+      executor: "constant-arrival-rate",
+      rate: Number(__ENV.RATE || 100), // 학생/초
+      timeUnit: "1s",
+      duration: __ENV.DURATION || "60s",
+      preAllocatedVUs: Number(__ENV.VUS || 100),
+      maxVUs: Number(__ENV.MAX_VUS || 500),
+    },
+  },
+  thresholds: {
+    http_req_failed: ["rate<0.01"], // 실패율 < 1%
+  },
+};
+
+const COURSES = Number(__ENV.COURSES || 3); // 전체 강좌 수
+const CART_SIZE = Math.min(Number(__ENV.CART_SIZE || 3), COURSES); // 학생당 신청 강좌 수
+const USE_CART = (__ENV.CART || "1") !== "0";
+const MODE = __ENV.MODE || "ALL_OR_NOTHING"; // ALL_OR_NOTHING | BEST_EFFORT
+
+function randInt(n) {
+  return Math.floor(Math.random() * n) + 1;
+}
+
+function pickCourses() {
+  // 순서를 섞어 보내도 서버가 오름차순으로 락을 잡는지 확인
+  const ids = [];
+  while (ids.length < CART_SIZE) {
+    const id = randInt(COURSES);
+    if (!ids.includes(id)) ids.push(id);
+  }
+  return ids;
+}
+
+export default function () {
+  const base = __ENV.BASE_URL || "http://localhost:8080";
+  const params = { headers: { "Content-Type": "application/json" } };
+  const userId = randInt(100000);
+  const priority = Math.floor(Math.random() * 100);
+  const courseIds = pickCourses();
+
+  if (USE_CART) {
+    const res = http.post(
+      `${base}/lb/enroll/cart`,
+      JSON.stringify({ userId, courseIds, priority, mode: MODE }),
+      params
+    );
+    check(res, { "cart processed 200": (r) => r.status === 200 });
+  } else {
+    for (const courseId of courseIds) {
+      const res = http.post(`${base}/lb/enroll`, JSON.stringify({ userId, courseId, priority }), params);
+      check(res, { "enroll queued 200": (r) => r.status === 200 });
+    }
+  }
+  sleep(0.1);
+}
@@ -0,0 +1,150 @@
+import http from "k6/http";
+import { check, sleep } from "k6";
+import { Trend, Counter } from "k6/metrics";
+
+// 장애 주입 구간별 리미터/부하 차단/분산 동작 측정
+// 서버는 FAULT_ENABLED=true, 로드밸런서는 LB_FAULT_ENABLED=true 로 띄운다.
+// SERVER_SCENARIO / LB_SCENARIO 를 주면 시작 시 시나리오를 교체하고, 없으면 설정된 시나리오의 시계만 재시작한다.
+// PHASES 는 시나리오 구간 길이(초) 목록으로, 요청과 지표에 phase 태그를 붙여 구간별 요약을 낸다.
+//
+// 예) SERVER_SCENARIO="30s; 60s latency=lognormal:20:200,failure=0.05; 30s" PHASES="30,60,30" \
+//     BASE_URL="http://localhost:8080" RATE="500" k6 run k6/fault-degraded.js
+const base = __ENV.BASE_URL || "http://localhost:8080";
+const servers = (__ENV.SERVERS || "http://localhost:8081,http://localhost:8082,http://localhost:8083").split(",");
+const phases = (__ENV.PHASES || "30,60,30").split(",").map(Number);
+const totalSeconds = phases.reduce((a, b) => a + b, 0);
+
+// 서버별 리미터 상태 표본 (probe 시나리오가 1초마다 수집)
+const maxConcurrent = new Trend("server_max_concurrent");
+const queueSize = new Trend("server_queue_size");
+const emaLatency = new Trend("server_ema_latency_ms");
+const rejected = new Counter("enroll_rejected");
+
+const thresholds = {};
+phases.forEach((_, i) => {
+  // 구간별 요약을 출력하기 위한 항상 통과하는 임계치
+  thresholds[`http_req_duration{phase:${i}}`] = ["p(99)>=0"];
+  thresholds[`http_req_failed{phase:${i}}`] = ["rate>=0"];
+  thresholds[`server_max_concurrent{phase:${i}}`] = ["avg>=0"];
+  thresholds[`server_queue_size{phase:${i}}`] = ["avg>=0"];
+  thresholds[`server_ema_latency_ms{phase:${i}}`] = ["avg>=0"];
+});
+
+export const options = {
+  scenarios: {
+    load: {
+      executor: "constant-arrival-rate",
+      rate: Number(__ENV.RATE || 500), // 요청/초
+      timeUnit: "1s",
+      duration: `${totalSeconds}s`,
+      preAllocatedVUs: Number(__ENV.VUS || 200),
+      maxVUs: Number(__ENV.MAX_VUS || 2000),
+    },
+    probe: {
+      executor: "constant-vus",
+      vus: 1,
+      duration: `${totalSeconds}s`,
+      exec: "probe",
+    },
+  },
+  thresholds,
+};
+
+function randInt(n) {
+  return Math.floor(Math.random() * n) + 1;
+}
+
+// 테스트 시작 이후 경과 시간으로 현재 구간 번호 계산
+function currentPhase(startMs) {
+  let elapsed = (Date.now() - startMs) / 1000;
+  for (let i = 0; i < phases.length; i++) {
+    elapsed -= phases[i];
+    if (elapsed < 0) {
+      return String(i);
+    }
+  }
+  return String(phases.length - 1);
+}
+
+function control(url, scenario) {
+  const headers = { headers: { "Content-Type": "application/json" } };
+  const res = scenario
+    ? http.post(`${url}/scenario`, JSON.stringify({ scenario, enabled: true }), headers)
+    : http.post(`${url}/restart`);
+  if (res.status !== 200) {
+    console.log(`${url}: ${res.status} ${res.body}`);
+  }
+}
+
+export function setup() {
+  // 시나리오 구간과 부하 구간이 같은 시각에 시작하도록 시계를 맞춘다
+  for (const server of servers) {
+    control(`${server}/api/fault`, __ENV.SERVER_SCENARIO);
+    http.post(`${server}/api/queue/stats/reset`);
+  }
+  control(`${base}/lb/fault`, __ENV.LB_SCENARIO);
+  return { startMs: Date.now() };
+}
+
+export default function (data) {
+  const phase = currentPhase(data.startMs);
+  const courseId = randInt(Number(__ENV.COURSES || 3));
+  if (Math.random() < Number(__ENV.GET_RATIO || 0.1)) {
+    const res = http.get(`${base}/lb/courses/${courseId}`, { tags: { phase } });
+    check(res, { "course 200": (r) => r.status === 200 }, { phase });
+    return;
+  }
+  const body = JSON.stringify({
+    userId: randInt(1000000),
+    courseId,
+    priority: Math.floor(Math.random() * 100),
+  });
+  const res = http.post(`${base}/lb/enroll`, body, {
+    headers: { "Content-Type": "application/json" },
+    tags: { phase },
+  });
+  if (!check(res, { "enroll queued 200": (r) => r.status === 200 }, { phase })) {
+    rejected.add(1, { phase, status: String(res.status) });
+  }
+}
+
+export function probe(data) {
+  const phase = currentPhase(data.startMs);
+  for (const server of servers) {
+    const res = http.get(`${server}/api/queue/status`, { tags: { name: "probe" } });
+    if (res.status !== 200) {
+      continue;
+    }
+    const status = res.json();
+    maxConcurrent.add(status.maxConcurrentRequests, { phase });
+    queueSize.add(status.queueSize, { phase });
+    emaLatency.add(status.emaLatencyMs, { phase });
+  }
+  sleep(1);
+}
+
+export function teardown() {
+  for (const server of servers) {
+    const res = http.get(`${server}/api/queue/status`);
+    if (res.status !== 200) {
+      console.log(`${server}: status ${res.status}`);
+      continue;
+    }
+    const status = res.json();
+    const fault = status.fault || {};
+    console.log(
+      `${server} limiter=${status.limiterAlgorithm} maxConcurrent=${status.maxConcurrentRequests} ` +
+        `processed=${status.processedCount} expired=${status.expiredCount} ` +
+        `injected delayed=${fault.delayed} stalled=${fault.stalled} failed=${fault.failed}`
+    );
+  }
+  const lb = http.get(`${base}/lb/fault/status`);
+  if (lb.status === 200) {
+    const fault = lb.json();
+    console.log(`lb injected delayed=${fault.delayed} failed=${fault.failed}`);
+  }
+  const hedge = http.get(`${base}/lb/hedge/status`);
+  if (hedge.status === 200) {
+    console.log(`lb hedge ${hedge.body}`);
+  }
+}
@@ -0,0 +1,64 @@
+import http from "k6/http";
+import { check } from "k6";
+
+// 우선순위 구간별 처리 몫과 대기 꼬리 지연 측정용 포화 부하
+// 서버의 처리 용량보다 높은 도착률로 신청을 보내고, 종료 후 각 서버의 구간별 지표를 출력한다.
+// QUEUE_SCHEDULING=strict|aging|wfq 로 서버를 띄워 같은 조건에서 비교한다.
+// COURSES=1 이면 한 강좌에 몰려 강좌 한도(perCourse)의 보류 큐 경로를 측정한다.
+export const options = {
+  scenarios: {
+    saturation: {
+      executor: "constant-arrival-rate",
+      rate: Number(__ENV.RATE || 3000), // 요청/초 (처리 용량 이상)
+      timeUnit: "1s",
+      duration: __ENV.DURATION || "60s",
+      preAllocatedVUs: Number(__ENV.VUS || 500),
+      maxVUs: Number(__ENV.MAX_VUS || 3000),
+    },
+  },
+};
+
+const base = __ENV.BASE_URL || "http://localhost:8080";
+// 구간별 지표는 서버마다 따로 집계되므로 서버에 직접 조회
+const servers = (__ENV.SERVERS || "http://localhost:8081,http://localhost:8082,http://localhost:8083").split(",");
+
+function randInt(n) {
+  return Math.floor(Math.random() * n) + 1;
+}
+
+export function setup() {
+  // 이전 실행의 구간 지표 초기화
+  for (const server of servers) {
+    http.post(`${server}/api/queue/stats/reset`);
+  }
+}
+
+export default function () {
+  const body = JSON.stringify({
+    userId: randInt(1000000),
+    courseId: randInt(Number(__ENV.COURSES || 3)),
+    priority: Math.floor(Math.random() * 100), // 0-99 균등 분포
+  });
+  const res = http.post(`${base}/lb/enroll`, body, {
+    headers: { "Content-Type": "application/json" },
+  });
+  check(res, { "enroll queued 200": (r) => r.status === 200 });
+}
+
+export function teardown() {
+  for (const server of servers) {
+    const res = http.get(`${server}/api/queue/status`);
+    if (res.status !== 200) {
+      console.log(`${server}: status ${res.status}`);
+      continue;
+    }
+    const status = res.json();
+    console.log(`${server} mode=${status.schedulingMode} queueSize=${status.queueSize}`);
+    for (const band of status.bands) {
+      console.log(
+        `  band ${band.band} weight=${band.weight} served=${band.served} share=${(band.share * 100).toFixed(1)}% ` +
+          `queued=${band.queued} waitP50=${band.waitP50Ms}ms waitP99=${band.waitP99Ms}ms waitMax=${band.waitMaxMs}ms`
+      );
+    }
+  }
+}
@@ -0,0 +1,71 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Counter } from "k6/metrics";
+
+// 소수 사용자(봇)가 신청을 몰아칠 때 속도 제한이 백엔드 큐를 지키는지 측정
+// 요청의 BOT_SHARE 비율은 BOT_USERS 명의 고정 사용자가, 나머지는 다수의 일반 사용자가 보낸다.
+// 종료 후 로드밸런서의 속도 제한 지표(forwardsSaved)와 클러스터 큐 상태를 출력한다.
+// LB_RATE_LIMIT_ENABLED=false 로 로드밸런서를 띄워 같은 부하로 비교한다.
+export const options = {
+  scenarios: {
+    abuse: {
+      executor: "constant-arrival-rate",
+      rate: Number(__ENV.RATE || 500), // 요청/초
+      timeUnit: "1s",
+      duration: __ENV.DURATION || "60s",
+      preAllocatedVUs: Number(__ENV.VUS || 200),
+      maxVUs: Number(__ENV.MAX_VUS || 1000),
+    },
+  },
+};
+
+const base = __ENV.BASE_URL || "http://localhost:8080";
+const botUsers = Number(__ENV.BOT_USERS || 20);
+const botShare = Number(__ENV.BOT_SHARE || 0.5);
+const limited = new Counter("rate_limited");
+
+function randInt(n) {
+  return Math.floor(Math.random() * n) + 1;
+}
+
+export default function () {
+  const bot = Math.random() < botShare;
+  // 봇은 1..BOT_USERS, 일반 사용자는 그 뒤 범위
+  const userId = bot ? randInt(botUsers) : botUsers + randInt(1000000);
+  const body = JSON.stringify({
+    userId,
+    courseId: randInt(Number(__ENV.COURSES || 3)),
+    priority: Math.floor(Math.random() * 100),
+  });
+  const kind = bot ? "bot" : "normal";
+  const res = http.post(`${base}/lb/enroll`, body, {
+    headers: { "Content-Type": "application/json" },
+    tags: { kind },
+  });
+  if (res.status === 429) {
+    limited.add(1, { kind });
+    return;
+  }
+  check(res, { "enroll queued 200": (r) => r.status === 200 }, { kind });
+}
+
+export function teardown() {
+  const rate = http.get(`${base}/lb/ratelimit/status`);
+  if (rate.status === 200) {
+    const status = rate.json();
+    console.log(`rate limit enabled=${status.enabled} allowed=${status.allowed} forwardsSaved=${status.forwardsSaved}`);
+    const enroll = status.routes.enroll;
+    console.log(
+      `  enroll rejectedByUser=${enroll.rejectedByUser} rejectedByIp=${enroll.rejectedByIp} ` +
+        `rejectedRatio=${(enroll.rejectedRatio * 100).toFixed(1)}% userKeys=${enroll.userTable ? enroll.userTable.keys : "-"}`
+    );
+  }
+  const queue = http.get(`${base}/lb/queue/status`);
+  if (queue.status === 200) {
+    const cluster = queue.json().cluster;
+    console.log(
+      `cluster queueSize=${cluster.queueSize} processed=${cluster.processedCount} expired=${cluster.expiredCount} ` +
+        `emaLatencyMsMax=${cluster.emaLatencyMsMax}`
+    );
+  }
+}
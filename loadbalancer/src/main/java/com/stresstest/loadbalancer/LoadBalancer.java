@@ -0,0 +1,345 @@
+package com.stresstest.loadbalancer;
+
+import com.stresstest.loadbalancer.fault.BackendFaultInjector;
+import com.stresstest.loadbalancer.hedge.HedgingPolicy;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 간단한 라운드 로빈 전략의 애플리케이션 레벨 로드밸런서
+ * - 서버 목록 초기화/보관
+ * - POST/GET 요청을 다음 서버로 포워딩
+ * - 사용자의 신청(단건/장바구니)은 userId 해시로 고정된 서버에 보내고, 결과 스트림(SSE)도 같은 서버에서 가져온다.
+ */
+public class LoadBalancer {
+    /** 대상 서버의 베이스 URL 목록 */
+    private final List<String> serverUrls = new ArrayList<>();
+    /** 다음 대상 서버를 선택하기 위한 인덱스 */
+    private final AtomicInteger currentIndex = new AtomicInteger(0);
+    /** 비동기 HTTP 요청 전송 클라이언트 */ 
+    private final WebClient webClient;
+    /** GET 헤지/재시도 정책 */
+    private final HedgingPolicy hedgingPolicy;
+    /** 벤치마크용 백엔드 지연/실패 주입 (비활성 시 호출을 그대로 반환) */
+    private final BackendFaultInjector backendFaults;
+    
+    /** application.yml 에서 주입되는 서버 목록 설정값 */
+    @Value("${loadbalancer.servers:http://localhost:8081,http://localhost:8082,http://localhost:8083}")
+    private String serversConfig;
+    /** 결과 스트림 하트비트 주기(ms) */
+    @Value("${loadbalancer.outcome.heartbeatMs:15000}")
+    private long outcomeHeartbeatMs;
+    
+    /** 사용자 신청 포워딩 수 / 열린 결과 스트림 수 */
+    private final AtomicLong userRequests = new AtomicLong(0);
+    private final AtomicLong outcomeStreams = new AtomicLong(0);
+    /** 모든 결과 스트림이 공유하는 하트비트 */
+    private Flux<ServerSentEvent<String>> outcomeHeartbeat;
+    
+    /** 생성자에서 WebClient 기본 설정으로 초기화 
+     * - 메모리 사용량 제한 10MB
+     * - 비동기 HTTP 요청 전송 클라이언트 생성
+    */
+    public LoadBalancer(HedgingPolicy hedgingPolicy, BackendFaultInjector backendFaults) {
+        this.hedgingPolicy = hedgingPolicy;
+        this.backendFaults = backendFaults;
+        this.webClient = WebClient.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+                .build();
+    }
+    
+    @PostConstruct
+    void initOutcomeHeartbeat() {
+        outcomeHeartbeat = Flux.interval(Duration.ofMillis(outcomeHeartbeatMs))
+                .map(tick -> ServerSentEvent.<String>builder().comment("keepalive").build())
+                .share();
+    }
+    
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding", "upgrade", "trailer"
+    );
+    
+    private static boolean isHopByHopHeader(String headerName) {
+        return HOP_BY_HOP_HEADERS.contains(headerName.toLowerCase());
+    }
+    
+    private static HttpHeaders sanitizeHeaders(HttpHeaders source) {
+        HttpHeaders target = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!isHopByHopHeader(name)) {
+                target.put(name, values);
+            }
+        });
+        target.remove(HttpHeaders.CONTENT_LENGTH);
+        target.remove(HttpHeaders.TRANSFER_ENCODING);
+        return target;
+    }
+    
+    /**
+     * 설정값을 읽어 서버 URL 목록을 초기화
+     */
+    public void initializeServers() {
+        String[] servers = serversConfig.split(",");
+        for (String server : servers) {
+            serverUrls.add(server.trim());
+        }
+        log.info("Load balancer initialized with {} servers: {}", serverUrls.size(), serverUrls);
+    }
+    
+    /**
+     * 라운드 로빈으로 다음 대상 서버 URL을 반환
+     */
+    public String getNextServer() {
+        return serverUrls.get(nextServerIndex());
+    }
+    
+    private int nextServerIndex() {
+        if (serverUrls.isEmpty()) {
+            initializeServers();
+        }
+        return Math.floorMod(currentIndex.getAndIncrement(), serverUrls.size());
+    }
+    
+    /**
+     * 사용자 요청을 그 사용자의 담당 서버로 포워딩
+     * 결과는 처리한 서버에서만 발행되므로, 신청마다 서버가 바뀌면 미리 열어 둔 결과 스트림이 결과를 놓친다.
+     */
+    public Mono<ResponseEntity<byte[]>> forwardUserRequest(long userId, String path, Object body, HttpHeaders headers) {
+        userRequests.incrementAndGet();
+        return forwardTo(serverUrls.get(userServerIndex(userId)), path, body, headers);
+    }
+    
+    /** 사용자의 담당 서버 인덱스 (userId 해시, 서버 목록이 같으면 항상 같은 서버) */
+    private int userServerIndex(long userId) {
+        if (serverUrls.isEmpty()) {
+            initializeServers();
+        }
+        return (int) Math.floorMod(mix(userId), (long) serverUrls.size());
+    }
+    
+    /** userId 비트 확산 (연속된 ID가 인접 슬롯에 몰리지 않도록) */
+    private static long mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+    
+    /**
+     * 사용자 결과 스트림을 프록시
+     * - 사용자의 신청은 모두 담당 서버로 가므로 그 서버의 스트림만 연결한다.
+     * - 서버 하트비트는 걸러내고 로드밸런서 하트비트 하나로 대체한다.
+     * - 서버 스트림이 끝나거나 실패하면(재시작, 서버 측 타임아웃) 프록시 스트림도 함께 끝나 클라이언트가 다시 연결한다.
+     * - 느린 클라이언트는 TCP 흐름 제어로 서버까지 전달되고, 서버의 구독자 버퍼에서 오래된 결과부터 버려진다.
+     */
+    public Flux<ServerSentEvent<String>> streamOutcomes(long userId, String ticket) {
+        String path = "/api/outcomes/stream?userId=" + userId
+                + (ticket != null ? "&ticket=" + URLEncoder.encode(ticket, StandardCharsets.UTF_8) : "");
+        outcomeStreams.incrementAndGet();
+        Flux<ServerSentEvent<String>> upstream = openStream(serverUrls.get(userServerIndex(userId)), path);
+        return withHeartbeat(upstream, outcomeHeartbeat);
+    }
+    
+    /**
+     * 서버 스트림의 데이터 이벤트에 하트비트를 섞는다.
+     * 하트비트는 끝나지 않으므로 서버 스트림이 종료/실패하는 시점에 함께 끊는다.
+     */
+    static Flux<ServerSentEvent<String>> withHeartbeat(Flux<ServerSentEvent<String>> upstream,
+                                                      Flux<ServerSentEvent<String>> heartbeat) {
+        return upstream.publish(shared -> Flux.merge(
+                shared.filter(event -> event.data() != null),
+                heartbeat.takeUntilOther(shared.then())));
+    }
+    
+    private Flux<ServerSentEvent<String>> openStream(String serverUrl, String path) {
+        log.debug("Opening outcome stream to {}: {}", serverUrl, path);
+        return webClient.get()
+                .uri(serverUrl + path)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() { })
+                .doOnError(error -> log.warn("Outcome stream from {} failed: {}", serverUrl, error.getMessage()));
+    }
+    
+    /** 사용자 요청 라우팅 지표 */
+    public Map<String, Object> getUserRoutingStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("mode", "userHash");
+        status.put("userRequests", userRequests.get());
+        status.put("outcomeStreams", outcomeStreams.get());
+        return status;
+    }
+    
+    /**
+     * POST 요청을 다음 서버의 지정 경로로 포워딩
+     *
+     * @param path 서버 측 경로
+     * @param body 요청 바디
+     * @return 서버 응답 Mono
+     */
+    public Mono<ResponseEntity<byte[]>> forwardRequest(String path, Object body) {
+        return forwardRequest(path, body, HttpHeaders.EMPTY);
+    }
+    
+    /**
+     * POST 요청을 추가 헤더와 함께 다음 서버의 지정 경로로 포워딩
+     *
+     * @param path    서버 측 경로
+     * @param body    요청 바디
+     * @param headers 함께 전달할 헤더
+     * @return 서버 응답 Mono
+     */
+    public Mono<ResponseEntity<byte[]>> forwardRequest(String path, Object body, HttpHeaders headers) {
+        return forwardTo(getNextServer(), path, body, headers);
+    }
+    
+    private Mono<ResponseEntity<byte[]>> forwardTo(String serverUrl, String path, Object body, HttpHeaders headers) {
+        String fullUrl = serverUrl + path;
+        
+        log.info("Forwarding request to {}: {}", serverUrl, path);
+        return backendFaults.apply(serverUrls.indexOf(serverUrl), webClient.post()
+                        .uri(fullUrl)
+                        .headers(target -> target.addAll(headers))
+                        .bodyValue(body)
+                        .exchangeToMono(clientResponse -> clientResponse
+                                .bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .map(responseBody -> {
+                                    HttpHeaders headers = sanitizeHeaders(clientResponse.headers().asHttpHeaders());
+                                    HttpStatus status = HttpStatus.valueOf(clientResponse.statusCode().value());
+                                    return new ResponseEntity<>(responseBody, headers, status);
+                                })))
+                .doOnSuccess(response -> log.info("Response from {}: {}", serverUrl, response.getStatusCode()))
+                .doOnError(error -> log.error("Error forwarding to {}: {}", serverUrl, error.getMessage()))
+                .onErrorResume(error -> Mono.just(unavailable(error)));
+    }
+    
+    /**
+     * GET 요청을 다음 서버의 지정 경로로 포워딩
+     * - 첫 서버가 경로별 헤지 지연(최근 구간 p95) 안에 응답하지 않으면 다음 서버에도 보내고 먼저 온 응답을 쓴다.
+     * - 첫 서버가 연결 오류 등으로 실패하면 다음 서버로 즉시 재시도한다.
+     * - 헤지/재시도는 합쳐서 원 요청당 한 건이며 전역 예산 안에서만 보낸다.
+     * - 전체 응답 기한을 넘기면 503을 반환한다.
+     * @param path 서버 측 경로
+     * @return 서버 응답 Mono
+     */
+    public Mono<ResponseEntity<byte[]>> forwardGetRequest(String path) {
+        int primaryIndex = nextServerIndex();
+        String primaryUrl = serverUrls.get(primaryIndex);
+        if (!hedgingPolicy.isEnabled() || serverUrls.size() < 2) {
+            return getFrom(primaryUrl, path)
+                    .timeout(hedgingPolicy.getTimeout())
+                    .onErrorResume(error -> Mono.just(unavailable(error)));
+        }
+        
+        String route = hedgingPolicy.routeOf(path);
+        String secondaryUrl = serverUrls.get((primaryIndex + 1) % serverUrls.size());
+        hedgingPolicy.onRequest();
+        // 헤지와 재시도 중 먼저 시도한 쪽만 추가 요청을 보낸다
+        AtomicBoolean extraClaimed = new AtomicBoolean(false);
+        
+        Mono<ResponseEntity<byte[]>> primary = timedGet(route, primaryUrl, path)
+                .onErrorResume(error -> {
+                    if (!extraClaimed.compareAndSet(false, true) || !hedgingPolicy.tryAcquireExtra()) {
+                        return Mono.error(error);
+                    }
+                    hedgingPolicy.onRetrySent();
+                    log.info("Retrying GET {} on {} after error from {}", path, secondaryUrl, primaryUrl);
+                    return timedGet(route, secondaryUrl, path);
+                });
+        Mono<ResponseEntity<byte[]>> hedge = Mono.delay(hedgingPolicy.hedgeDelay(route))
+                .filter(tick -> extraClaimed.compareAndSet(false, true) && hedgingPolicy.tryAcquireExtra())
+                .flatMap(tick -> {
+                    hedgingPolicy.onHedgeSent();
+                    log.info("Hedging GET {} to {}", path, secondaryUrl);
+                    return timedGet(route, secondaryUrl, path)
+                            .doOnNext(response -> hedgingPolicy.onHedgeWin());
+                });
+        
+        // 먼저 값을 낸 쪽을 쓰고 나머지는 취소(연결 반환)
+        return Mono.firstWithValue(primary, hedge)
+                .timeout(hedgingPolicy.getTimeout())
+                .onErrorResume(error -> {
+                    if (error instanceof TimeoutException) {
+                        hedgingPolicy.onTimeout();
+                    }
+                    return Mono.just(unavailable(error));
+                });
+    }
+    
+    /** 지연을 경로 통계에 기록하는 GET. 5xx 응답은 지연 통계에서 제외한다. */
+    private Mono<ResponseEntity<byte[]>> timedGet(String route, String serverUrl, String path) {
+        return Mono.defer(() -> {
+            long startNs = System.nanoTime();
+            return getFrom(serverUrl, path).doOnNext(response -> {
+                if (!response.getStatusCode().is5xxServerError()) {
+                    hedgingPolicy.recordLatency(route, (System.nanoTime() - startNs) / 1_000L);
+                }
+            });
+        });
+    }
+    
+    private Mono<ResponseEntity<byte[]>> getFrom(String serverUrl, String path) {
+        log.info("Forwarding GET request to {}: {}", serverUrl, path);
+        return backendFaults.apply(serverUrls.indexOf(serverUrl), webClient.get()
+                        .uri(serverUrl + path)
+                        .exchangeToMono(clientResponse -> clientResponse
+                                .bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .map(responseBody -> {
+                                    HttpHeaders headers = sanitizeHeaders(clientResponse.headers().asHttpHeaders());
+                                    HttpStatus status = HttpStatus.valueOf(clientResponse.statusCode().value());
+                                    return new ResponseEntity<>(responseBody, headers, status);
+                                })))
+                .doOnSuccess(response -> log.info("Response from {}: {}", serverUrl, response.getStatusCode()))
+                .doOnError(error -> log.error("Error forwarding to {}: {}", serverUrl, error.getMessage()));
+    }
+    
+    private static ResponseEntity<byte[]> unavailable(Throwable error) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
+        String reason = error instanceof TimeoutException ? "timeout" : String.valueOf(error.getMessage());
+        String msg = "{\"error\":\"Server unavailable: " + reason.replace("\"", "\\\"") + "\"}";
+        return new ResponseEntity<>(msg.getBytes(StandardCharsets.UTF_8), headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    /** GET 헤지/재시도 예산 지표 */
+    public Map<String, Object> getHedgingStatus() {
+        return hedgingPolicy.getStatus();
+    }
+    
+    /**
+     * 현재 관리 중인 서버 URL 목록을 복사하여 반환
+     */
+    public List<String> getServerUrls() {
+        if (serverUrls.isEmpty()) {
+            initializeServers();
+        }
+        return new ArrayList<>(serverUrls);
+    }
+}
+
@@ -0,0 +1,44 @@
+package com.stresstest.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+
+@SpringBootApplication
+@RequiredArgsConstructor
+/**
+ * 로드밸런서 애플리케이션 진입점
+ * - WebFlux(Netty)만 사용하며 데이터베이스/JPA를 초기화하지 않는다.
+ * - 컴포넌트 스캔 범위는 com.stresstest.loadbalancer 패키지로 한정된다.
+ * - 설정 파일은 loadbalancer.yml 이다. 서버 모듈과 같은 클래스패스에 올라가도(클러스터 모드) 서버의 application.yml과 겹치지 않는다.
+ */
+public class LoadBalancerApplication {
+    /** 로드밸런서 설정 파일 이름 (spring.config.name) */
+    public static final String CONFIG_NAME = "loadbalancer";
+
+    /**
+     * 서버 풀 초기화와 요청 분산을 담당하는 로드밸런서
+     */
+    private final LoadBalancer loadBalancer;
+
+    /**
+     * 로드밸런서 애플리케이션 진입점
+     *
+     * @param args 실행 인자
+     */
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(LoadBalancerApplication.class)
+                .properties("spring.config.name=" + CONFIG_NAME)
+                .run(args);
+    }
+
+    /**
+     * 기동 시 서버 풀 구성
+     */
+    @Bean
+    public CommandLineRunner initServers() {
+        return args -> loadBalancer.initializeServers();
+    }
+}
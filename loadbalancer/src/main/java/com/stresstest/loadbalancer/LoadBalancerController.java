@@ -0,0 +1,285 @@
+package com.stresstest.loadbalancer;
+
+import com.stresstest.loadbalancer.capture.TrafficRecorder;
+import com.stresstest.loadbalancer.fault.BackendFaultInjector;
+import com.stresstest.loadbalancer.ratelimit.RequestRateLimiter;
+import com.stresstest.loadbalancer.status.ClusterStatusAggregator;
+import com.stresstest.model.CancellationRequest;
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.EnrollmentRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/lb")
+@RequiredArgsConstructor
+/**
+ * 로드밸런서 진입점 컨트롤러
+ * - 클라이언트 요청을 받아 백엔드 서버로 포워딩
+ */
+public class LoadBalancerController {
+    /** 라운드 로빈 기반 요청 포워딩 로직 */
+    private final LoadBalancer loadBalancer;
+    /** 유입 트래픽 캡처기 (비활성 시 no-op) */
+    private final TrafficRecorder trafficRecorder;
+    /** 벤치마크용 백엔드 장애 주입기 */
+    private final BackendFaultInjector backendFaults;
+    /** 클러스터 큐 상태 주기 집계기 */
+    private final ClusterStatusAggregator clusterStatus;
+    /** 사용자/IP별 요청 속도 제한 */
+    private final RequestRateLimiter rateLimiter;
+    
+    /** 클라이언트가 기한을 주지 않았을 때 적용할 수강 신청 응답 기한(ms). 0이면 기한 없음 */
+    @Value("${loadbalancer.enroll.defaultTimeoutMs:0}")
+    private long defaultEnrollTimeoutMs;
+    
+    /**
+     * 수강 신청 요청을 서버로 포워딩
+     * - X-Request-Timeout-Ms(상대 ms) 또는 X-Enroll-Deadline(epoch ms)을 받아 절대 기한으로 변환해 전달한다.
+     */
+    @PostMapping("/enroll")
+    public Mono<ResponseEntity<byte[]>> enroll(
+            @RequestBody EnrollmentRequest request,
+            @RequestHeader(value = "X-Request-Timeout-Ms", required = false) Long timeoutMs,
+            @RequestHeader(value = EnrollmentRequest.DEADLINE_HEADER, required = false) Long deadlineEpochMs,
+            ServerHttpRequest httpRequest) {
+        log.info("Load balancer received enrollment request: {}", request);
+        trafficRecorder.recordEnroll(request);
+        RequestRateLimiter.Decision decision = rateLimiter.check(
+                RequestRateLimiter.Route.ENROLL, request.getUserId(), httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        HttpHeaders headers = new HttpHeaders();
+        Long deadline = resolveDeadline(timeoutMs, deadlineEpochMs);
+        if (deadline != null) {
+            headers.set(EnrollmentRequest.DEADLINE_HEADER, String.valueOf(deadline));
+        }
+        return loadBalancer.forwardUserRequest(request.getUserId(), "/api/enroll", request, headers);
+    }
+    
+    /**
+     * 장바구니 신청 요청을 서버로 포워딩
+     * - 응답 기한 처리는 단건 신청과 같다. 캡처 포맷에는 장바구니 레코드가 없어 기록하지 않는다.
+     */
+    @PostMapping("/enroll/cart")
+    public Mono<ResponseEntity<byte[]>> enrollCart(
+            @RequestBody CartEnrollmentRequest request,
+            @RequestHeader(value = "X-Request-Timeout-Ms", required = false) Long timeoutMs,
+            @RequestHeader(value = EnrollmentRequest.DEADLINE_HEADER, required = false) Long deadlineEpochMs,
+            ServerHttpRequest httpRequest) {
+        log.info("Load balancer received cart request: userId={}, courseIds={}", request.getUserId(), request.getCourseIds());
+        RequestRateLimiter.Decision decision = rateLimiter.check(
+                RequestRateLimiter.Route.CART, request.getUserId(), httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        HttpHeaders headers = new HttpHeaders();
+        Long deadline = resolveDeadline(timeoutMs, deadlineEpochMs);
+        if (deadline != null) {
+            headers.set(EnrollmentRequest.DEADLINE_HEADER, String.valueOf(deadline));
+        }
+        return loadBalancer.forwardUserRequest(request.getUserId(), "/api/enroll/cart", request, headers);
+    }
+    
+    /**
+     * 사용자 처리 결과 스트림(SSE)을 프록시 (userId 해시로 정해진 담당 서버, 신청도 같은 서버로 보낸다)
+     */
+    @GetMapping(value = "/outcomes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamOutcomes(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String ticket) {
+        return loadBalancer.streamOutcomes(userId, ticket);
+    }
+    
+    /** 속도 제한 거부 응답 (429, Retry-After 초 단위 올림) */
+    private static ResponseEntity<byte[]> tooManyRequests(RequestRateLimiter.Decision decision) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
+        headers.add(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, (decision.getRetryAfterMs() + 999L) / 1000L)));
+        String body = "{\"error\":\"Rate limit exceeded\",\"limitedBy\":\"" + decision.getLimitedBy()
+                + "\",\"retryAfterMs\":" + decision.getRetryAfterMs() + "}";
+        return new ResponseEntity<>(body.getBytes(StandardCharsets.UTF_8), headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+    
+    /** 요청 헤더와 기본 설정으로 응답 기한(epoch ms)을 결정 */
+    private Long resolveDeadline(Long timeoutMs, Long deadlineEpochMs) {
+        if (deadlineEpochMs != null) {
+            return deadlineEpochMs;
+        }
+        long timeout = timeoutMs != null ? timeoutMs : defaultEnrollTimeoutMs;
+        if (timeout <= 0) {
+            return null;
+        }
+        return System.currentTimeMillis() + timeout;
+    }
+    
+    /** 수강 취소 요청을 포워딩 */
+    @PostMapping("/enrollments/cancel")
+    public Mono<ResponseEntity<byte[]>> cancelEnrollment(
+            @RequestBody CancellationRequest request,
+            ServerHttpRequest httpRequest) {
+        log.info("Load balancer received cancellation request: userId={}, courseId={}", request.getUserId(), request.getCourseId());
+        RequestRateLimiter.Decision decision = rateLimiter.check(
+                RequestRateLimiter.Route.CANCEL, request.getUserId(), httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        return loadBalancer.forwardRequest("/api/enrollments/cancel", request);
+    }
+    
+    /** 대기 순번 조회 요청을 포워딩 */
+    @GetMapping("/waitlist/course/{courseId}/user/{userId}")
+    public Mono<ResponseEntity<byte[]>> getWaitlistPosition(
+            @PathVariable Long courseId,
+            @PathVariable Long userId,
+            ServerHttpRequest httpRequest) {
+        RequestRateLimiter.Decision decision = rateLimiter.check(RequestRateLimiter.Route.READ, userId, httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        return loadBalancer.forwardGetRequest("/api/waitlist/course/" + courseId + "/user/" + userId);
+    }
+    
+    /** 강좌 목록 조회 요청을 포워딩 */
+    @GetMapping("/courses")
+    public Mono<ResponseEntity<byte[]>> getAllCourses(ServerHttpRequest httpRequest) {
+        trafficRecorder.recordGet("/lb/courses");
+        RequestRateLimiter.Decision decision = rateLimiter.check(RequestRateLimiter.Route.READ, null, httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        return loadBalancer.forwardGetRequest("/api/courses");
+    }
+    
+    /** 특정 강좌 조회 요청을 포워딩 */
+    @GetMapping("/courses/{id}")
+    public Mono<ResponseEntity<byte[]>> getCourse(@PathVariable Long id, ServerHttpRequest httpRequest) {
+        trafficRecorder.recordGet("/lb/courses/" + id);
+        RequestRateLimiter.Decision decision = rateLimiter.check(RequestRateLimiter.Route.READ, null, httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        return loadBalancer.forwardGetRequest("/api/courses/" + id);
+    }
+    
+    /** 사용자 등록 내역 페이지 조회 요청을 포워딩 */
+    @GetMapping("/enrollments/user/{userId}")
+    public Mono<ResponseEntity<byte[]>> getUserEnrollments(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int size,
+            ServerHttpRequest httpRequest) {
+        String query = "?after=" + after + "&size=" + size;
+        trafficRecorder.recordGet("/lb/enrollments/user/" + userId + query);
+        RequestRateLimiter.Decision decision = rateLimiter.check(RequestRateLimiter.Route.READ, userId, httpRequest);
+        if (!decision.isAllowed()) {
+            return Mono.just(tooManyRequests(decision));
+        }
+        return loadBalancer.forwardGetRequest("/api/enrollments/user/" + userId + query);
+    }
+    
+    /**
+     * 클러스터 큐 상태 스냅샷(서버별 값 + 클러스터 합계)을 반환한다.
+     * 백엔드로 포워딩하지 않고 주기 집계된 스냅샷을 읽으므로 폴링이 백엔드 부하를 늘리지 않는다.
+     */
+    @GetMapping("/queue/status")
+    public Mono<ResponseEntity<Map<String, Object>>> getQueueStatus() {
+        trafficRecorder.recordGet("/lb/queue/status");
+        return clusterStatus.getSnapshot().map(ResponseEntity::ok);
+    }
+    
+    /**
+     * 현재 로드밸런서가 관리하는 서버 목록을 반환한다.
+     */
+    @GetMapping("/servers")
+    public ResponseEntity<Map<String, Object>> getServers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("servers", loadBalancer.getServerUrls());
+        response.put("userRouting", loadBalancer.getUserRoutingStatus());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * GET 헤지/재시도 예산 상태와 경로별 헤지 지연을 반환한다.
+     */
+    @GetMapping("/hedge/status")
+    public ResponseEntity<Map<String, Object>> getHedgeStatus() {
+        return ResponseEntity.ok(loadBalancer.getHedgingStatus());
+    }
+    
+    /**
+     * 속도 제한 지표(경로별 허용/거부 수, 추적 키 수)를 반환한다.
+     */
+    @GetMapping("/ratelimit/status")
+    public ResponseEntity<Map<String, Object>> getRateLimitStatus() {
+        return ResponseEntity.ok(rateLimiter.getStatus());
+    }
+    
+    /**
+     * 백엔드 장애 주입 상태(현재 구간, 주입 건수)를 반환한다.
+     */
+    @GetMapping("/fault/status")
+    public ResponseEntity<Map<String, Object>> getFaultStatus() {
+        return ResponseEntity.ok(backendFaults.getStatus());
+    }
+    
+    /**
+     * 백엔드 장애 시나리오 시계를 처음으로 되돌린다.
+     */
+    @PostMapping("/fault/restart")
+    public ResponseEntity<Map<String, Object>> restartFaultScenario() {
+        backendFaults.restart();
+        return getFaultStatus();
+    }
+    
+    /**
+     * 백엔드 장애 시나리오를 교체한다 ({"scenario": "...", "repeat": false, "enabled": true}).
+     * 시나리오 형식이 잘못되면 400을 반환한다.
+     */
+    @PostMapping("/fault/scenario")
+    public ResponseEntity<Map<String, Object>> replaceFaultScenario(@RequestBody Map<String, Object> config) {
+        try {
+            backendFaults.replaceScenario(String.valueOf(config.getOrDefault("scenario", "")),
+                    Boolean.parseBoolean(String.valueOf(config.getOrDefault("repeat", false))));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (config.containsKey("enabled")) {
+            backendFaults.setEnabled(Boolean.parseBoolean(String.valueOf(config.get("enabled"))));
+        }
+        return getFaultStatus();
+    }
+    
+    /**
+     * 트래픽 캡처 상태를 반환한다.
+     */
+    @GetMapping("/capture/status")
+    public ResponseEntity<Map<String, Object>> getCaptureStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("enabled", trafficRecorder.isEnabled());
+        response.put("file", trafficRecorder.getFile());
+        response.put("recorded", trafficRecorder.getRecordedCount());
+        response.put("dropped", trafficRecorder.getDroppedCount());
+        response.put("pending", trafficRecorder.getPendingCount());
+        return ResponseEntity.ok(response);
+    }
+}
+
@@ -0,0 +1,78 @@
+package com.stresstest.loadbalancer.capture;
+
+/**
+ * 캡처 파일의 한 레코드를 표현하는 불변 값 객체
+ * - 도착 시각(캡처 시작 기준 마이크로초 오프셋)과 요청 종류/내용을 담는다.
+ */
+public final class CapturedRequest {
+    /** 캡처 대상 요청 종류 */
+    public enum Type {
+        ENROLL, GET
+    }
+
+    /** 세그먼트 시작 시각(epoch ms) */
+    private final long segmentStartEpochMs;
+    /** 세그먼트 시작 기준 도착 오프셋(us) */
+    private final long offsetMicros;
+    private final Type type;
+    /** GET 요청 경로 (ENROLL이면 null) */
+    private final String path;
+    private final long userId;
+    private final long courseId;
+    private final int priority;
+
+    private CapturedRequest(long segmentStartEpochMs, long offsetMicros, Type type,
+                            String path, long userId, long courseId, int priority) {
+        this.segmentStartEpochMs = segmentStartEpochMs;
+        this.offsetMicros = offsetMicros;
+        this.type = type;
+        this.path = path;
+        this.userId = userId;
+        this.courseId = courseId;
+        this.priority = priority;
+    }
+
+    /** 수강 신청 요청 레코드 생성 */
+    public static CapturedRequest enroll(long segmentStartEpochMs, long offsetMicros,
+                                         long userId, long courseId, int priority) {
+        return new CapturedRequest(segmentStartEpochMs, offsetMicros, Type.ENROLL, null, userId, courseId, priority);
+    }
+
+    /** GET 요청 레코드 생성 */
+    public static CapturedRequest get(long segmentStartEpochMs, long offsetMicros, String path) {
+        return new CapturedRequest(segmentStartEpochMs, offsetMicros, Type.GET, path, 0L, 0L, 0);
+    }
+
+    public long getSegmentStartEpochMs() {
+        return segmentStartEpochMs;
+    }
+
+    public long getOffsetMicros() {
+        return offsetMicros;
+    }
+
+    /** 절대 도착 시각(epoch us). 여러 세그먼트를 하나의 시간축으로 이어 붙일 때 사용 */
+    public long getArrivalEpochMicros() {
+        return segmentStartEpochMs * 1000L + offsetMicros;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getCourseId() {
+        return courseId;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
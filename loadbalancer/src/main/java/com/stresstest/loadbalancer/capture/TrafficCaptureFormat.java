@@ -0,0 +1,77 @@
+package com.stresstest.loadbalancer.capture;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 캡처 파일의 바이너리 포맷 정의
+ * - 파일은 레코드의 연속이며, 각 레코드는 1바이트 타입으로 시작한다.
+ * - SEGMENT: 로드밸런서 기동마다 한 번 기록. 이후 레코드 오프셋의 기준 시각(epoch ms)
+ * - ENROLL : 도착 오프셋(us), userId, courseId, priority (모두 가변 길이 정수, 부호 있는 값은 zigzag 인코딩)
+ * - GET    : 도착 오프셋(us), 경로(modified UTF-8)
+ * 가변 길이 정수를 사용하여 수강 신청 한 건이 보통 10바이트 안팎으로 기록된다.
+ */
+final class TrafficCaptureFormat {
+    static final byte SEGMENT = 0;
+    static final byte ENROLL = 1;
+    static final byte GET = 2;
+
+    private TrafficCaptureFormat() {
+    }
+
+    /** 세그먼트 헤더 기록 */
+    static void writeSegment(DataOutput out, long startEpochMs) throws IOException {
+        out.writeByte(SEGMENT);
+        out.writeLong(startEpochMs);
+    }
+
+    /** 캡처된 요청 한 건 기록 */
+    static void writeRecord(DataOutput out, CapturedRequest request) throws IOException {
+        if (request.getType() == CapturedRequest.Type.ENROLL) {
+            out.writeByte(ENROLL);
+            writeVarLong(out, request.getOffsetMicros());
+            writeSignedVarLong(out, request.getUserId());
+            writeSignedVarLong(out, request.getCourseId());
+            writeSignedVarLong(out, request.getPriority());
+        } else {
+            out.writeByte(GET);
+            writeVarLong(out, request.getOffsetMicros());
+            out.writeUTF(request.getPath());
+        }
+    }
+
+    /** 부호 없는 LEB128 형태로 기록 (음수도 64비트 그대로 기록되지만 10바이트가 된다) */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        int shift = 0;
+        while (shift < 64) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+        throw new IOException("Malformed varlong in capture file");
+    }
+
+    /** zigzag 인코딩 후 LEB128로 기록 (0, -1, 1, -2 ... → 0, 1, 2, 3 ...) */
+    static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(DataInput in) throws IOException {
+        long v = readVarLong(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
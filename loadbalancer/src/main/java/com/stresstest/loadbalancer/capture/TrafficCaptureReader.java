@@ -0,0 +1,77 @@
+package com.stresstest.loadbalancer.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 캡처 파일을 앞에서부터 한 레코드씩 읽는 순방향 리더
+ * - 파일 전체를 메모리에 올리지 않으므로 긴 캡처도 일정한 메모리로 재생 가능
+ * - 기록 중 종료되어 잘린 마지막 레코드는 무시한다.
+ */
+public class TrafficCaptureReader implements Closeable {
+    private final DataInputStream in;
+    /** 현재 세그먼트의 시작 시각(epoch ms) */
+    private long segmentStartEpochMs = -1L;
+
+    public TrafficCaptureReader(Path file) throws IOException {
+        this(Files.newInputStream(file));
+    }
+
+    public TrafficCaptureReader(InputStream source) {
+        this.in = new DataInputStream(new BufferedInputStream(source, 64 * 1024));
+    }
+
+    /**
+     * 다음 요청 레코드를 반환
+     *
+     * @return 다음 레코드 또는 null(파일 끝)
+     */
+    public CapturedRequest next() throws IOException {
+        try {
+            while (true) {
+                int type = in.read();
+                if (type < 0) {
+                    return null;
+                }
+                switch (type) {
+                    case TrafficCaptureFormat.SEGMENT -> segmentStartEpochMs = in.readLong();
+                    case TrafficCaptureFormat.ENROLL -> {
+                        requireSegment();
+                        long offset = TrafficCaptureFormat.readVarLong(in);
+                        long userId = TrafficCaptureFormat.readSignedVarLong(in);
+                        long courseId = TrafficCaptureFormat.readSignedVarLong(in);
+                        int priority = (int) TrafficCaptureFormat.readSignedVarLong(in);
+                        return CapturedRequest.enroll(segmentStartEpochMs, offset, userId, courseId, priority);
+                    }
+                    case TrafficCaptureFormat.GET -> {
+                        requireSegment();
+                        long offset = TrafficCaptureFormat.readVarLong(in);
+                        String path = in.readUTF();
+                        return CapturedRequest.get(segmentStartEpochMs, offset, path);
+                    }
+                    default -> throw new IOException("Unknown capture record type: " + type);
+                }
+            }
+        } catch (EOFException truncated) {
+            // 기록 도중 종료된 마지막 레코드
+            return null;
+        }
+    }
+
+    private void requireSegment() throws IOException {
+        if (segmentStartEpochMs < 0) {
+            throw new IOException("Capture record found before segment header");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,162 @@
+package com.stresstest.loadbalancer.capture;
+
+import com.stresstest.model.EnrollmentRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+/**
+ * 로드밸런서 유입 트래픽을 도착 시각과 함께 append-only 파일로 기록하는 캡처기
+ * - 요청 스레드(리액티브 이벤트 루프)는 lock-free 큐에 넣기만 하고 즉시 반환
+ * - 파일 기록은 전용 데몬 스레드 하나가 일괄 처리
+ * - 버퍼가 가득 차면 기록을 버리고 드롭 수만 센다(요청 경로를 막지 않음)
+ */
+public class TrafficRecorder {
+    /** 캡처 활성화 여부 */
+    @Value("${loadbalancer.capture.enabled:false}")
+    private boolean enabled;
+    /** 캡처 파일 경로 */
+    @Value("${loadbalancer.capture.file:capture/lb-traffic.bin}")
+    private String file;
+    /** 기록 대기 버퍼의 최대 레코드 수 */
+    @Value("${loadbalancer.capture.bufferCapacity:100000}")
+    private int bufferCapacity;
+
+    /** 기록 대기 레코드 */
+    private final ConcurrentLinkedQueue<CapturedRequest> pending = new ConcurrentLinkedQueue<>();
+    /** 기록 대기 레코드 수 (ConcurrentLinkedQueue.size()는 O(n)이므로 별도 관리) */
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    /** 기록된 레코드 수 */
+    private final AtomicLong recordedCount = new AtomicLong(0);
+    /** 버퍼 초과로 버려진 레코드 수 */
+    private final AtomicLong droppedCount = new AtomicLong(0);
+
+    /** 세그먼트 시작 시각(epoch ms)과 대응되는 nanoTime 기준점 */
+    private long segmentStartEpochMs;
+    private long segmentStartNanos;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /** 활성화된 경우 세그먼트 헤더를 기록하고 기록 스레드를 시작 */
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path path = Paths.get(file);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        OutputStream os = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 64 * 1024));
+        segmentStartEpochMs = System.currentTimeMillis();
+        segmentStartNanos = System.nanoTime();
+        TrafficCaptureFormat.writeSegment(out, segmentStartEpochMs);
+        out.flush();
+
+        running = true;
+        writerThread = new Thread(() -> writeLoop(out), "traffic-capture-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Traffic capture enabled: file={}, bufferCapacity={}", path.toAbsolutePath(), bufferCapacity);
+    }
+
+    /** 수강 신청 요청을 캡처 */
+    public void recordEnroll(EnrollmentRequest request) {
+        if (!running) {
+            return;
+        }
+        enqueue(CapturedRequest.enroll(segmentStartEpochMs, offsetMicros(),
+                request.getUserId(), request.getCourseId(), request.getPriority()));
+    }
+
+    /** GET 요청을 캡처 */
+    public void recordGet(String path) {
+        if (!running) {
+            return;
+        }
+        enqueue(CapturedRequest.get(segmentStartEpochMs, offsetMicros(), path));
+    }
+
+    private long offsetMicros() {
+        return (System.nanoTime() - segmentStartNanos) / 1_000L;
+    }
+
+    private void enqueue(CapturedRequest request) {
+        if (pendingCount.incrementAndGet() > bufferCapacity) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            return;
+        }
+        pending.offer(request);
+    }
+
+    /** 대기 레코드를 꺼내 기록하고, 비어 있으면 flush 후 잠시 대기 */
+    private void writeLoop(DataOutputStream out) {
+        try (out) {
+            while (running || !pending.isEmpty()) {
+                CapturedRequest request = pending.poll();
+                if (request == null) {
+                    out.flush();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    continue;
+                }
+                pendingCount.decrementAndGet();
+                TrafficCaptureFormat.writeRecord(out, request);
+                recordedCount.incrementAndGet();
+            }
+        } catch (IOException e) {
+            running = false;
+            log.error("Traffic capture stopped: {}", e.getMessage());
+        }
+    }
+
+    /** 종료 시 남은 레코드를 모두 기록 */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        log.info("Traffic capture closed: recorded={}, dropped={}", recordedCount.get(), droppedCount.get());
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public String getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,148 @@
+package com.stresstest.loadbalancer.capture;
+
+import com.stresstest.model.EnrollmentRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 파일을 원래의 도착 간격대로 클러스터에 다시 보내는 재생기
+ * - speed=1 은 원래 속도, 2 는 두 배 빠르게, max 는 간격을 무시하고 최대 속도로 재생
+ * - 파일을 순차적으로 읽으며 예정 시각까지 대기 후 비동기로 요청을 발사한다.
+ * - 동시 미완료 요청 수를 제한하여 재생기 자체가 메모리를 소진하지 않도록 한다.
+ *
+ * 사용 예:
+ * ./gradlew replayTraffic -PreplayArgs="--file=capture/lb-traffic.bin --target=http://localhost:8080 --speed=1"
+ */
+public class TrafficReplayer {
+    private final WebClient webClient;
+    private final String target;
+    /** 재생 배속. 0 이하이면 간격 없이 최대 속도 */
+    private final double speed;
+    /** 세그먼트 사이 등 긴 공백을 잘라낼 최대 간격(ms) */
+    private final long maxGapMs;
+    /** 동시 미완료 요청 상한 */
+    private final int maxInflight;
+    private final Semaphore inflight;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    /** 예정 시각 대비 최대 발사 지연(us). 재생기가 원래 속도를 따라가는지 확인용 */
+    private long maxLagMicros;
+
+    public TrafficReplayer(String target, double speed, long maxGapMs, int maxInflight) {
+        this.webClient = WebClient.builder().build();
+        this.target = target;
+        this.speed = speed;
+        this.maxGapMs = maxGapMs;
+        this.maxInflight = maxInflight;
+        this.inflight = new Semaphore(maxInflight);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        Path file = Paths.get(options.getOrDefault("file", "capture/lb-traffic.bin"));
+        String target = options.getOrDefault("target", "http://localhost:8080");
+        String speedArg = options.getOrDefault("speed", "1");
+        double speed = "max".equalsIgnoreCase(speedArg) ? 0.0 : Double.parseDouble(speedArg);
+        long maxGapMs = Long.parseLong(options.getOrDefault("max-gap-ms", "10000"));
+        int maxInflight = Integer.parseInt(options.getOrDefault("max-inflight", "2000"));
+
+        TrafficReplayer replayer = new TrafficReplayer(target, speed, maxGapMs, maxInflight);
+        replayer.replay(file);
+    }
+
+    /** 캡처 파일 전체를 재생하고 결과를 출력 */
+    public void replay(Path file) throws Exception {
+        long startNanos = System.nanoTime();
+        long firstArrival = -1L;
+        long previousArrival = -1L;
+        // 잘라낸 공백만큼 이후 레코드의 예정 시각을 앞당긴다
+        long skippedMicros = 0L;
+
+        try (TrafficCaptureReader reader = new TrafficCaptureReader(file)) {
+            CapturedRequest request;
+            while ((request = reader.next()) != null) {
+                long arrival = request.getArrivalEpochMicros();
+                if (firstArrival < 0) {
+                    firstArrival = arrival;
+                    previousArrival = arrival;
+                }
+                long gap = arrival - previousArrival;
+                if (gap > maxGapMs * 1_000L) {
+                    skippedMicros += gap - maxGapMs * 1_000L;
+                }
+                previousArrival = Math.max(previousArrival, arrival);
+
+                if (speed > 0) {
+                    long dueNanos = startNanos + (long) ((arrival - firstArrival - skippedMicros) * 1_000L / speed);
+                    long waitNanos = dueNanos - System.nanoTime();
+                    if (waitNanos > 0) {
+                        LockSupport.parkNanos(waitNanos);
+                    }
+                    maxLagMicros = Math.max(maxLagMicros, (System.nanoTime() - dueNanos) / 1_000L);
+                }
+                inflight.acquire();
+                fire(request);
+            }
+        }
+        // 남은 요청 완료 대기
+        inflight.acquire(maxInflight);
+        double elapsedSec = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("Replay finished: sent=%d, 2xx=%d, non2xx=%d, errors=%d, elapsed=%.2fs, rate=%.1f/s, maxLag=%.1fms%n",
+                sent.get(), succeeded.get(), rejected.get(), errors.get(), elapsedSec,
+                sent.get() / Math.max(elapsedSec, 1e-9), maxLagMicros / 1000.0);
+    }
+
+    private void fire(CapturedRequest request) {
+        sent.incrementAndGet();
+        Mono<Integer> call;
+        if (request.getType() == CapturedRequest.Type.ENROLL) {
+            EnrollmentRequest body = new EnrollmentRequest(request.getUserId(), request.getCourseId(), request.getPriority());
+            call = webClient.post()
+                    .uri(target + "/lb/enroll")
+                    .bodyValue(body)
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+        } else {
+            call = webClient.get()
+                    .uri(target + request.getPath())
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+        }
+        call.timeout(Duration.ofSeconds(60))
+                .doFinally(signal -> inflight.release())
+                .subscribe(status -> {
+                    if (status >= 200 && status < 300) {
+                        succeeded.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                }, error -> errors.incrementAndGet());
+    }
+
+    /** --key=value 형태의 인자를 파싱 */
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,111 @@
+package com.stresstest.loadbalancer.fault;
+
+import com.stresstest.fault.FaultPhase;
+import com.stresstest.fault.FaultScenario;
+import com.stresstest.fault.InjectedFaultException;
+import com.stresstest.fault.LatencyDistribution;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 백엔드로 포워딩하는 호출에 지연/실패를 주입하는 장애 주입기 (벤치마크 전용)
+ * - 특정 서버만 느려지거나 실패할 때 라운드 로빈/헤지/재시도 예산이 어떻게 반응하는지 측정한다.
+ * - 구간별 설정 키 (n은 loadbalancer.servers 순서의 1부터 시작하는 번호)
+ *   delay=분포, delay@n=분포   전체/특정 서버 호출 전 지연 (서버별 설정이 우선)
+ *   fail=비율, fail@n=비율     전체/특정 서버 호출 실패 (연결 오류와 같은 경로로 처리)
+ * - 지연은 Mono.delay로 걸어 이벤트 루프 스레드를 막지 않는다.
+ */
+public class BackendFaultInjector {
+    @Value("${loadbalancer.fault.enabled:false}")
+    private volatile boolean enabled;
+    @Value("${loadbalancer.fault.scenario:}")
+    private String scenarioSpec;
+    @Value("${loadbalancer.fault.repeat:false}")
+    private boolean repeat;
+
+    private volatile FaultScenario scenario;
+
+    private final AtomicLong delayed = new AtomicLong(0);
+    private final AtomicLong failed = new AtomicLong(0);
+
+    @PostConstruct
+    void init() {
+        scenario = FaultScenario.parse(scenarioSpec, repeat);
+        if (enabled) {
+            log.warn("Backend fault injection enabled: scenario='{}', repeat={}", scenarioSpec, repeat);
+        }
+    }
+
+    /**
+     * 백엔드 호출에 현재 구간의 지연/실패를 적용
+     *
+     * @param serverIndex loadbalancer.servers 내 0부터 시작하는 인덱스
+     * @param call        실제 백엔드 호출 (구독 시 전송)
+     */
+    public <T> Mono<T> apply(int serverIndex, Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            FaultPhase phase = scenario.currentPhase();
+            if (phase == null || phase.isNormal()) {
+                return call;
+            }
+            String suffix = "@" + (serverIndex + 1);
+            double failRate = phase.getRate("fail" + suffix, phase.getRate("fail", 0.0));
+            if (failRate > 0 && ThreadLocalRandom.current().nextDouble() < failRate) {
+                failed.incrementAndGet();
+                return Mono.error(new InjectedFaultException("Injected backend failure"));
+            }
+            LatencyDistribution delay = phase.getDistribution("delay" + suffix);
+            if (delay == null) {
+                delay = phase.getDistribution("delay");
+            }
+            if (delay == null) {
+                return call;
+            }
+            delayed.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(delay.sampleMillis())).then(call);
+        });
+    }
+
+    /** 시나리오 교체 후 시계 재시작 */
+    public void replaceScenario(String spec, boolean repeat) {
+        FaultScenario next = FaultScenario.parse(spec, repeat);
+        this.scenarioSpec = spec;
+        this.repeat = repeat;
+        this.scenario = next;
+        log.warn("Backend fault scenario replaced: scenario='{}', repeat={}", spec, repeat);
+    }
+
+    /** 시나리오 시계를 처음으로 되돌리고 주입 카운터 초기화 */
+    public void restart() {
+        scenario.restart();
+        delayed.set(0);
+        failed.set(0);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.putAll(scenario.getStatus());
+        status.put("delayed", delayed.get());
+        status.put("failed", failed.get());
+        return status;
+    }
+}
@@ -0,0 +1,153 @@
+package com.stresstest.loadbalancer.hedge;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+/**
+ * 멱등 GET 요청의 헤지/재시도 정책
+ * - 경로별 지연 백분위(기본 p95)를 헤지 지연으로 사용한다. 첫 백엔드가 그 안에 응답하지 않으면
+ *   다른 백엔드에 같은 요청을 보내고 먼저 온 응답을 쓴다.
+ * - 첫 백엔드가 연결 오류 등으로 실패하면 헤지 지연을 기다리지 않고 다른 백엔드로 재시도한다.
+ * - 헤지와 재시도는 원 요청당 최대 한 건이며, 전역 예산(RetryBudget)에서 토큰을 받아야만 보낸다.
+ */
+public class HedgingPolicy {
+    /** 헤지 사용 여부. false면 단일 백엔드 + 타임아웃만 적용 */
+    @Value("${loadbalancer.get.hedging:true}")
+    private boolean enabled;
+    /** 헤지 지연으로 쓸 경로별 지연 백분위 */
+    @Value("${loadbalancer.get.hedgePercentile:95}")
+    private double hedgePercentile;
+    /** 샘플이 부족할 때의 헤지 지연(ms) */
+    @Value("${loadbalancer.get.initialHedgeDelayMs:50}")
+    private long initialHedgeDelayMs;
+    /** 헤지 지연 하한(ms). 매우 빠른 경로에서 헤지가 남발되지 않도록 함 */
+    @Value("${loadbalancer.get.minHedgeDelayMs:5}")
+    private long minHedgeDelayMs;
+    /** 원 요청 전체 응답 기한(ms). 초과 시 503 */
+    @Value("${loadbalancer.get.timeoutMs:2000}")
+    private long timeoutMs;
+    /** 지연 백분위 계산 구간(ms) */
+    @Value("${loadbalancer.get.windowMs:10000}")
+    private long windowMs;
+    /** 구간 백분위를 신뢰하기 위한 최소 샘플 수 */
+    @Value("${loadbalancer.get.minSamples:50}")
+    private int minSamples;
+    /** 원 요청당 적립되는 추가 요청 토큰 */
+    @Value("${loadbalancer.retryBudget.ratio:0.1}")
+    private double budgetRatio;
+    /** 적립 토큰 상한 */
+    @Value("${loadbalancer.retryBudget.maxTokens:100}")
+    private int budgetMaxTokens;
+
+    private final ConcurrentHashMap<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private RetryBudget budget;
+
+    private final AtomicLong requestCount = new AtomicLong(0);
+    private final AtomicLong hedgeCount = new AtomicLong(0);
+    private final AtomicLong hedgeWinCount = new AtomicLong(0);
+    private final AtomicLong retryCount = new AtomicLong(0);
+    private final AtomicLong budgetDeniedCount = new AtomicLong(0);
+    private final AtomicLong timeoutCount = new AtomicLong(0);
+
+    @PostConstruct
+    void init() {
+        budget = new RetryBudget(budgetRatio, budgetMaxTokens);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getTimeout() {
+        return Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * 경로 템플릿. 쿼리를 떼고 숫자 세그먼트를 {id}로 바꿔 경로별 통계 수를 제한한다.
+     */
+    public String routeOf(String path) {
+        int query = path.indexOf('?');
+        String base = query >= 0 ? path.substring(0, query) : path;
+        return base.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+
+    /** 원 요청 한 건 (예산 적립) */
+    public void onRequest() {
+        requestCount.incrementAndGet();
+        budget.deposit();
+    }
+
+    /** 경로의 현재 헤지 지연 */
+    public Duration hedgeDelay(String route) {
+        long micros = route(route).hedgeDelayMicros();
+        long delayMicros = micros >= 0 ? micros : initialHedgeDelayMs * 1_000L;
+        long bounded = Math.max(minHedgeDelayMs * 1_000L, Math.min(delayMicros, timeoutMs * 1_000L));
+        return Duration.ofNanos(bounded * 1_000L);
+    }
+
+    /** 성공 응답 지연 기록 */
+    public void recordLatency(String route, long micros) {
+        route(route).record(micros);
+    }
+
+    /** 추가 요청(헤지/재시도) 토큰 요청 */
+    public boolean tryAcquireExtra() {
+        if (budget.tryWithdraw()) {
+            return true;
+        }
+        budgetDeniedCount.incrementAndGet();
+        return false;
+    }
+
+    public void onHedgeSent() {
+        hedgeCount.incrementAndGet();
+    }
+
+    public void onHedgeWin() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    public void onRetrySent() {
+        retryCount.incrementAndGet();
+    }
+
+    public void onTimeout() {
+        timeoutCount.incrementAndGet();
+    }
+
+    private RouteLatency route(String route) {
+        return routes.computeIfAbsent(route, key -> new RouteLatency(windowMs, minSamples, hedgePercentile));
+    }
+
+    /** 헤지/예산 지표와 경로별 지연 스냅샷 */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("requests", requestCount.get());
+        status.put("hedged", hedgeCount.get());
+        status.put("hedgeWins", hedgeWinCount.get());
+        status.put("retried", retryCount.get());
+        status.put("budgetDenied", budgetDeniedCount.get());
+        status.put("timeouts", timeoutCount.get());
+        status.put("budgetTokens", budget.getTokens());
+        Map<String, Object> routeStatus = new TreeMap<>();
+        routes.forEach((key, latency) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("hedgeDelayMs", hedgeDelay(key).toNanos() / 1e6);
+            entry.put("lastWindowP50Ms", latency.lastP50Micros() < 0 ? null : latency.lastP50Micros() / 1000.0);
+            entry.put("currentWindowSamples", latency.currentCount());
+            routeStatus.put(key, entry);
+        });
+        status.put("routes", routeStatus);
+        return status;
+    }
+}
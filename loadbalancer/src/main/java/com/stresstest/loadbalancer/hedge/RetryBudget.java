@@ -0,0 +1,51 @@
+package com.stresstest.loadbalancer.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전역 재시도/헤지 예산 (토큰 버킷)
+ * - 원 요청 한 건마다 ratio 만큼 토큰을 적립하고, 추가 요청(헤지/재시도) 한 건마다 토큰 1개를 쓴다.
+ *   → 장기적으로 추가 요청은 원 요청의 ratio 비율을 넘지 못한다.
+ * - 과부하로 모든 백엔드가 느려지면 헤지가 몰리지만 예산이 바닥나 추가 부하가 ratio 이내로 묶인다.
+ * - 토큰은 1/1000 단위 정수로 보관하여 CAS 하나로 갱신한다.
+ */
+final class RetryBudget {
+    private static final long SCALE = 1000L;
+
+    private final long depositMilli;
+    private final long maxMilli;
+    private final AtomicLong balanceMilli;
+
+    /**
+     * @param ratio     원 요청당 적립 토큰 (예: 0.1 → 추가 요청 최대 10%)
+     * @param maxTokens 적립 상한 (순간 허용 추가 요청 수)
+     */
+    RetryBudget(double ratio, int maxTokens) {
+        this.depositMilli = Math.max(0L, Math.round(ratio * SCALE));
+        this.maxMilli = Math.max(1L, maxTokens) * SCALE;
+        this.balanceMilli = new AtomicLong(maxMilli);
+    }
+
+    /** 원 요청 한 건 적립 */
+    void deposit() {
+        balanceMilli.accumulateAndGet(depositMilli, (balance, amount) -> Math.min(maxMilli, balance + amount));
+    }
+
+    /** 추가 요청 한 건 인출. 잔액이 부족하면 false */
+    boolean tryWithdraw() {
+        while (true) {
+            long balance = balanceMilli.get();
+            if (balance < SCALE) {
+                return false;
+            }
+            if (balanceMilli.compareAndSet(balance, balance - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /** 현재 잔여 토큰 */
+    double getTokens() {
+        return balanceMilli.get() / (double) SCALE;
+    }
+}
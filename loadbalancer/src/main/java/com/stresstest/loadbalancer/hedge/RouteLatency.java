@@ -0,0 +1,82 @@
+package com.stresstest.loadbalancer.hedge;
+
+import com.stresstest.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 경로별 응답 지연 추적기
+ * - 고정 길이 구간(window)마다 히스토그램을 새로 시작하고, 끝난 구간의 백분위를 헤지 지연으로 사용한다.
+ *   과거 지연이 계속 누적되지 않으므로 백엔드 상태 변화가 다음 구간에 반영된다.
+ * - 첫 구간이 끝나기 전에는 현재 구간의 샘플이 충분할 때만 백분위를 계산한다.
+ * - 끝난 구간의 샘플이 minSamples 미만이면 직전 값을 버린다. 트래픽이 끊겼다 돌아온 경로에
+ *   오래된 지연을 계속 쓰지 않고, 현재 구간이 충분해질 때까지 초기 헤지 지연을 쓰게 된다.
+ */
+final class RouteLatency {
+    private final long windowNanos;
+    private final int minSamples;
+    private final double percentile;
+
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile long windowStartNanos = System.nanoTime();
+    private final AtomicBoolean rotating = new AtomicBoolean(false);
+    /** 직전 구간에서 계산한 헤지 지연(us). 아직 없거나 직전 구간 샘플이 부족했으면 -1 */
+    private volatile long hedgeDelayMicros = -1L;
+    /** 직전 구간의 p50(us). 상태 조회용 */
+    private volatile long lastP50Micros = -1L;
+
+    RouteLatency(long windowMs, int minSamples, double percentile) {
+        this.windowNanos = windowMs * 1_000_000L;
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+    }
+
+    /** 성공 응답 지연(us) 기록 */
+    void record(long micros) {
+        maybeRotate();
+        current.record(micros);
+    }
+
+    /**
+     * 헤지 지연(us). 샘플이 부족하면 -1
+     */
+    long hedgeDelayMicros() {
+        maybeRotate();
+        long delay = hedgeDelayMicros;
+        if (delay >= 0) {
+            return delay;
+        }
+        LatencyHistogram histogram = current;
+        return histogram.getCount() >= minSamples ? histogram.percentile(percentile) : -1L;
+    }
+
+    long lastP50Micros() {
+        return lastP50Micros;
+    }
+
+    long currentCount() {
+        return current.getCount();
+    }
+
+    /** 구간이 끝났으면 한 스레드만 교체한다. 교체 직후 끝난 구간에 늦게 기록된 샘플은 버려진다. */
+    private void maybeRotate() {
+        long now = System.nanoTime();
+        if (now - windowStartNanos < windowNanos || !rotating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LatencyHistogram finished = current;
+            current = new LatencyHistogram();
+            windowStartNanos = now;
+            if (finished.getCount() >= minSamples) {
+                hedgeDelayMicros = finished.percentile(percentile);
+                lastP50Micros = finished.percentile(50);
+            } else {
+                hedgeDelayMicros = -1L;
+                lastP50Micros = -1L;
+            }
+        } finally {
+            rotating.set(false);
+        }
+    }
+}
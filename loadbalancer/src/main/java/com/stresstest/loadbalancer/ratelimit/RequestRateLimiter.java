@@ -0,0 +1,259 @@
+package com.stresstest.loadbalancer.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 로드밸런서 입구의 사용자/클라이언트 IP별 요청 속도 제한
+ * - 소수의 사용자(봇, 반복 새로고침)가 모든 백엔드의 신청 큐를 채우지 못하도록 포워딩 전에 거부(429)한다.
+ * - 경로 묶음(Route)마다 사용자 한도와 IP 한도를 따로 두며, 형식은 "초당 요청 수:버스트"이다. 0이면 해당 한도 없음.
+ * - 사용자 한도를 먼저 확인하고 통과한 요청만 IP 한도를 확인한다. (IP 한도에서 거부되어도 사용자 토큰은 소모된다)
+ * - 지표의 rejected 합계가 백엔드로 보내지 않은(큐에 들어가지 않은) 요청 수이다.
+ */
+public class RequestRateLimiter {
+    /** 한도를 따로 두는 경로 묶음 */
+    public enum Route {
+        /** POST /lb/enroll */
+        ENROLL,
+        /** POST /lb/enroll/cart */
+        CART,
+        /** POST /lb/enrollments/cancel */
+        CANCEL,
+        /** 강좌/등록 내역/대기 순번 조회 GET */
+        READ
+    }
+
+    /** 허용 결과 (할당 없이 반환) */
+    private static final Decision ALLOWED = new Decision(true, null, 0L);
+
+    @Value("${loadbalancer.rateLimit.enabled:true}")
+    private boolean enabled;
+    @Value("${loadbalancer.rateLimit.enroll.user:5:10}")
+    private String enrollUser;
+    @Value("${loadbalancer.rateLimit.enroll.ip:0}")
+    private String enrollIp;
+    @Value("${loadbalancer.rateLimit.cart.user:1:3}")
+    private String cartUser;
+    @Value("${loadbalancer.rateLimit.cart.ip:0}")
+    private String cartIp;
+    @Value("${loadbalancer.rateLimit.cancel.user:2:5}")
+    private String cancelUser;
+    @Value("${loadbalancer.rateLimit.cancel.ip:0}")
+    private String cancelIp;
+    @Value("${loadbalancer.rateLimit.read.user:20:40}")
+    private String readUser;
+    @Value("${loadbalancer.rateLimit.read.ip:0}")
+    private String readIp;
+    /** 테이블당 샤드 수 */
+    @Value("${loadbalancer.rateLimit.shards:16}")
+    private int shards;
+    /** 샤드당 최대 키 수 (테이블 메모리 상한) */
+    @Value("${loadbalancer.rateLimit.maxKeysPerShard:8192}")
+    private int maxKeysPerShard;
+    /** 유휴 버킷 정리 주기(ms) */
+    @Value("${loadbalancer.rateLimit.sweepMs:10000}")
+    private long sweepMs;
+    /** X-Forwarded-For 첫 주소를 클라이언트 IP로 사용할지 여부 (앞단 프록시가 있을 때만 true) */
+    @Value("${loadbalancer.rateLimit.trustForwardedFor:false}")
+    private boolean trustForwardedFor;
+
+    private final Map<Route, RouteLimits> routes = new EnumMap<>(Route.class);
+    private Disposable sweeper;
+
+    @PostConstruct
+    void init() {
+        routes.put(Route.ENROLL, new RouteLimits(enrollUser, enrollIp));
+        routes.put(Route.CART, new RouteLimits(cartUser, cartIp));
+        routes.put(Route.CANCEL, new RouteLimits(cancelUser, cancelIp));
+        routes.put(Route.READ, new RouteLimits(readUser, readIp));
+        if (enabled) {
+            sweeper = Flux.interval(Duration.ofMillis(sweepMs))
+                    .subscribe(tick -> sweepIdle());
+        }
+        log.info("Rate limiting: enabled={}, enroll={}/{}, cart={}/{}, cancel={}/{}, read={}/{} (user/ip)",
+                enabled, enrollUser, enrollIp, cartUser, cartIp, cancelUser, cancelIp, readUser, readIp);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    /**
+     * 요청 한 건의 허용 여부 판정
+     *
+     * @param userId 사용자 식별자. 사용자가 없는 경로는 null
+     */
+    public Decision check(Route route, Long userId, ServerHttpRequest httpRequest) {
+        if (!enabled) {
+            return ALLOWED;
+        }
+        RouteLimits limits = routes.get(route);
+        long now = System.nanoTime();
+        if (limits.user != null && userId != null) {
+            long waitNanos = limits.user.tryAcquire(userId, now);
+            if (waitNanos > 0) {
+                limits.rejectedByUser.incrementAndGet();
+                return new Decision(false, "user", waitNanos);
+            }
+        }
+        if (limits.ip != null) {
+            long waitNanos = limits.ip.tryAcquire(clientIp(httpRequest), now);
+            if (waitNanos > 0) {
+                limits.rejectedByIp.incrementAndGet();
+                return new Decision(false, "ip", waitNanos);
+            }
+        }
+        limits.allowed.incrementAndGet();
+        return ALLOWED;
+    }
+
+    private String clientIp(ServerHttpRequest httpRequest) {
+        if (trustForwardedFor) {
+            String forwarded = httpRequest.getHeaders().getFirst("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma >= 0 ? forwarded.substring(0, comma) : forwarded).trim();
+            }
+        }
+        InetSocketAddress remote = httpRequest.getRemoteAddress();
+        if (remote == null || remote.getAddress() == null) {
+            return "unknown";
+        }
+        return remote.getAddress().getHostAddress();
+    }
+
+    private void sweepIdle() {
+        long now = System.nanoTime();
+        for (RouteLimits limits : routes.values()) {
+            if (limits.user != null) {
+                limits.user.sweepIdle(now);
+            }
+            if (limits.ip != null) {
+                limits.ip.sweepIdle(now);
+            }
+        }
+    }
+
+    /** 경로별 허용/거부 수, 추적 키 수, 정리/초과 수 */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        long allowedTotal = 0;
+        long rejectedTotal = 0;
+        Map<String, Object> routeStatus = new LinkedHashMap<>();
+        for (Map.Entry<Route, RouteLimits> entry : routes.entrySet()) {
+            RouteLimits limits = entry.getValue();
+            long allowed = limits.allowed.get();
+            long rejected = limits.rejectedByUser.get() + limits.rejectedByIp.get();
+            allowedTotal += allowed;
+            rejectedTotal += rejected;
+            Map<String, Object> route = new LinkedHashMap<>();
+            route.put("userLimit", limits.userSpec);
+            route.put("ipLimit", limits.ipSpec);
+            route.put("allowed", allowed);
+            route.put("rejectedByUser", limits.rejectedByUser.get());
+            route.put("rejectedByIp", limits.rejectedByIp.get());
+            route.put("rejectedRatio", allowed + rejected == 0 ? 0.0 : (double) rejected / (allowed + rejected));
+            route.put("userTable", tableStatus(limits.user));
+            route.put("ipTable", tableStatus(limits.ip));
+            routeStatus.put(entry.getKey().name().toLowerCase(Locale.ROOT), route);
+        }
+        status.put("allowed", allowedTotal);
+        // 포워딩하지 않은 요청 수 = 백엔드 큐에 들어가지 않은 요청 수
+        status.put("forwardsSaved", rejectedTotal);
+        status.put("routes", routeStatus);
+        return status;
+    }
+
+    private static Map<String, Object> tableStatus(TokenBucketTable<?> table) {
+        if (table == null) {
+            return null;
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("keys", table.size());
+        status.put("capacity", table.getCapacity());
+        status.put("evicted", table.getEvicted());
+        status.put("overflow", table.getOverflow());
+        return status;
+    }
+
+    /** "초당 요청 수:버스트" 파싱. 0 또는 빈 값이면 null(한도 없음) */
+    private <K> TokenBucketTable<K> parseTable(String spec) {
+        String trimmed = spec == null ? "" : spec.trim();
+        if (trimmed.isEmpty() || trimmed.equals("0")) {
+            return null;
+        }
+        String[] parts = trimmed.split(":");
+        double rate = Double.parseDouble(parts[0]);
+        int burst = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : (int) Math.max(1, Math.ceil(rate));
+        if (rate <= 0) {
+            return null;
+        }
+        return new TokenBucketTable<>(rate, burst, shards, maxKeysPerShard);
+    }
+
+    /** 경로 묶음 하나의 한도와 지표 */
+    private class RouteLimits {
+        private final String userSpec;
+        private final String ipSpec;
+        private final TokenBucketTable<Long> user;
+        private final TokenBucketTable<String> ip;
+        private final AtomicLong allowed = new AtomicLong(0);
+        private final AtomicLong rejectedByUser = new AtomicLong(0);
+        private final AtomicLong rejectedByIp = new AtomicLong(0);
+
+        RouteLimits(String userSpec, String ipSpec) {
+            this.userSpec = userSpec;
+            this.ipSpec = ipSpec;
+            this.user = parseTable(userSpec);
+            this.ip = parseTable(ipSpec);
+        }
+    }
+
+    /**
+     * 판정 결과
+     */
+    public static class Decision {
+        private final boolean allowed;
+        /** 거부한 한도 종류 (user / ip) */
+        private final String limitedBy;
+        private final long retryAfterNanos;
+
+        Decision(boolean allowed, String limitedBy, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.limitedBy = limitedBy;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        public String getLimitedBy() {
+            return limitedBy;
+        }
+
+        public long getRetryAfterMs() {
+            return (retryAfterNanos + 999_999L) / 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.stresstest.loadbalancer.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 토큰 버킷 테이블 (GCRA 방식)
+ * - 버킷 상태는 키당 AtomicLong 하나(다음 요청의 이론적 도착 시각 TAT, ns)이며 CAS로만 갱신한다.
+ *   초당 rate 건, 최대 burst 건 연속 허용인 토큰 버킷과 같은 판정을 낸다.
+ * - TAT가 현재 시각 이하인 버킷은 토큰이 가득 찬 상태라 없는 것과 같으므로 언제든 제거할 수 있다(유휴 정리).
+ * - 키는 해시로 샤드에 나누고 샤드당 키 수를 제한한다. 샤드가 가득 차면 유휴 버킷을 정리하고,
+ *   그래도 자리가 없으면 해당 요청은 추적 없이 허용한다(overflow, 메모리 상한 우선).
+ *   요청 경로의 정리는 샤드당 INLINE_SWEEP_INTERVAL_NANOS에 한 번으로 제한한다. 활성 키로 가득 찬 샤드에
+ *   새 키가 몰려도 요청마다 샤드 전체를 훑지 않고 바로 overflow로 처리하며, 나머지는 주기 정리(sweepIdle)에 맡긴다.
+ */
+public class TokenBucketTable<K> {
+    /** 요청 경로에서 같은 샤드를 다시 정리하기까지의 최소 간격(ns) */
+    private static final long INLINE_SWEEP_INTERVAL_NANOS = 100_000_000L;
+
+    private final ConcurrentHashMap<K, AtomicLong>[] shards;
+    /** 샤드별 마지막 요청 경로 정리 시각(ns) */
+    private final AtomicLongArray lastInlineSweepNanos;
+    private final int maxKeysPerShard;
+    /** 토큰 1개 적립 간격(ns) */
+    private final long emissionNanos;
+    /** 연속 허용량에 해당하는 시간(ns) */
+    private final long burstNanos;
+
+    private final AtomicLong evicted = new AtomicLong(0);
+    private final AtomicLong overflow = new AtomicLong(0);
+
+    /**
+     * @param ratePerSecond   초당 허용 요청 수
+     * @param burst           연속 허용 요청 수 (1 이상)
+     * @param shardCount      샤드 수 (2의 거듭제곱으로 올림)
+     * @param maxKeysPerShard 샤드당 최대 키 수
+     */
+    @SuppressWarnings("unchecked")
+    public TokenBucketTable(double ratePerSecond, int burst, int shardCount, int maxKeysPerShard) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be > 0 and burst >= 1");
+        }
+        int shardsRounded = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        this.shards = new ConcurrentHashMap[shardsRounded];
+        for (int i = 0; i < shardsRounded; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.lastInlineSweepNanos = new AtomicLongArray(shardsRounded);
+        long sweepable = System.nanoTime() - INLINE_SWEEP_INTERVAL_NANOS;
+        for (int i = 0; i < shardsRounded; i++) {
+            lastInlineSweepNanos.set(i, sweepable);
+        }
+        this.maxKeysPerShard = maxKeysPerShard;
+        this.emissionNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.burstNanos = emissionNanos * burst;
+    }
+
+    /**
+     * 토큰 한 개를 사용 시도
+     *
+     * @return 0이면 허용, 양수면 거부이며 다음 토큰까지 남은 시간(ns)
+     */
+    public long tryAcquire(K key, long nowNanos) {
+        int index = shardIndex(key);
+        ConcurrentHashMap<K, AtomicLong> shard = shards[index];
+        AtomicLong tat = shard.get(key);
+        if (tat == null) {
+            if (shard.size() >= maxKeysPerShard) {
+                if (claimInlineSweep(index, nowNanos)) {
+                    sweep(shard, nowNanos);
+                }
+                if (shard.size() >= maxKeysPerShard) {
+                    overflow.incrementAndGet();
+                    return 0L;
+                }
+            }
+            tat = shard.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + emissionNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 유휴(토큰이 가득 찬) 버킷 정리
+     * 정리와 동시에 같은 키 요청이 들어오면 그 요청 하나는 새 버킷 기준으로 판정될 수 있다(허용 쪽으로만 어긋남).
+     */
+    public void sweepIdle(long nowNanos) {
+        for (ConcurrentHashMap<K, AtomicLong> shard : shards) {
+            sweep(shard, nowNanos);
+        }
+    }
+
+    /** 샤드의 요청 경로 정리 차례를 얻는다. 간격 안에 이미 정리했거나 다른 스레드가 먼저 가져가면 false */
+    private boolean claimInlineSweep(int index, long nowNanos) {
+        long last = lastInlineSweepNanos.get(index);
+        return nowNanos - last >= INLINE_SWEEP_INTERVAL_NANOS
+                && lastInlineSweepNanos.compareAndSet(index, last, nowNanos);
+    }
+
+    private void sweep(ConcurrentHashMap<K, AtomicLong> shard, long nowNanos) {
+        shard.forEach((key, tat) -> {
+            if (tat.get() <= nowNanos && shard.remove(key, tat)) {
+                evicted.incrementAndGet();
+            }
+        });
+    }
+
+    private int shardIndex(K key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (shards.length - 1);
+    }
+
+    /** 추적 중인 키 수 */
+    public long size() {
+        long total = 0;
+        for (ConcurrentHashMap<K, AtomicLong> shard : shards) {
+            total += shard.size();
+        }
+        return total;
+    }
+
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    public long getOverflow() {
+        return overflow.get();
+    }
+
+    public long getCapacity() {
+        return (long) shards.length * maxKeysPerShard;
+    }
+}
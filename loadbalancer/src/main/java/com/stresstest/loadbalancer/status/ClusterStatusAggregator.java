@@ -0,0 +1,193 @@
+package com.stresstest.loadbalancer.status;
+
+import com.stresstest.loadbalancer.LoadBalancer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 클러스터 큐 상태 집계기
+ * - 고정 주기로 모든 백엔드의 /api/queue/status를 동시에 조회해 서버별 값과 클러스터 합계를 담은 스냅샷을 만든다.
+ * - /lb/queue/status는 스냅샷을 그대로 반환하므로 대시보드 폴링 수와 무관하게 백엔드 조회는 주기당 서버 수만큼이다.
+ * - 응답하지 않은 서버는 up=false로 표시하고 합계에서 제외한다(serversDown으로 확인).
+ * - 스냅샷은 매 주기 새로 만든 Map을 volatile 참조로 교체하고 이후 수정하지 않는다. 읽기에는 락이 없다.
+ */
+public class ClusterStatusAggregator {
+    private static final ParameterizedTypeReference<Map<String, Object>> STATUS_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final String STATUS_PATH = "/api/queue/status";
+
+    private final LoadBalancer loadBalancer;
+    /** 상태 조회 전용 클라이언트 (포워딩 경로의 장애 주입/헤지를 거치지 않음) */
+    private final WebClient webClient = WebClient.builder().build();
+
+    /** 집계 주기(ms) */
+    @Value("${loadbalancer.status.refreshMs:1000}")
+    private long refreshMs;
+    /** 서버별 조회 기한(ms). 넘기면 해당 서버는 이번 주기에 down */
+    @Value("${loadbalancer.status.timeoutMs:500}")
+    private long timeoutMs;
+
+    private volatile Map<String, Object> snapshot;
+    private Disposable refresher;
+
+    private final AtomicLong refreshCount = new AtomicLong(0);
+
+    public ClusterStatusAggregator(LoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    /** 서버 목록 초기화(CommandLineRunner) 이후 주기 집계 시작 */
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        refresher = Flux.interval(Duration.ZERO, Duration.ofMillis(refreshMs))
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh(), 1)
+                .subscribe(null, error -> log.error("Cluster status refresher stopped", error));
+        log.info("Cluster status aggregation started: refreshMs={}, timeoutMs={}", refreshMs, timeoutMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * 최신 스냅샷. 첫 집계 전이면 즉시 한 번 집계한다.
+     */
+    public Mono<Map<String, Object>> getSnapshot() {
+        Map<String, Object> current = snapshot;
+        Mono<Map<String, Object>> source = current != null ? Mono.just(current) : refresh();
+        return source.map(this::withAge);
+    }
+
+    /** 스냅샷 자신의 생성 시각으로 경과 시간을 계산 (스냅샷과 시각이 어긋나지 않도록) */
+    private Map<String, Object> withAge(Map<String, Object> base) {
+        Map<String, Object> response = new LinkedHashMap<>(base);
+        long generatedAtEpochMs = (Long) base.get("generatedAtEpochMs");
+        response.put("ageMs", Math.max(0L, System.currentTimeMillis() - generatedAtEpochMs));
+        return response;
+    }
+
+    /** 모든 서버를 동시에 조회해 스냅샷 교체 */
+    private Mono<Map<String, Object>> refresh() {
+        List<String> servers = loadBalancer.getServerUrls();
+        return Flux.fromIterable(servers)
+                .flatMapSequential(this::fetch)
+                .collectList()
+                .map(entries -> {
+                    Map<String, Object> next = build(entries);
+                    snapshot = next;
+                    refreshCount.incrementAndGet();
+                    return next;
+                });
+    }
+
+    private Mono<Map<String, Object>> fetch(String serverUrl) {
+        return webClient.get()
+                .uri(serverUrl + STATUS_PATH)
+                .retrieve()
+                .bodyToMono(STATUS_TYPE)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .map(status -> serverEntry(serverUrl, status))
+                .onErrorResume(error -> {
+                    log.debug("Queue status unavailable from {}: {}", serverUrl, error.toString());
+                    Map<String, Object> down = new LinkedHashMap<>();
+                    down.put("server", serverUrl);
+                    down.put("up", false);
+                    down.put("error", String.valueOf(error.getMessage()));
+                    return Mono.just(down);
+                });
+    }
+
+    /** 서버 상태에서 대시보드용 항목만 추림 */
+    private static Map<String, Object> serverEntry(String serverUrl, Map<String, Object> status) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("server", serverUrl);
+        entry.put("up", true);
+        entry.put("queueSize", longOf(status, "queueSize"));
+        entry.put("currentProcessing", longOf(status, "currentProcessing"));
+        entry.put("maxConcurrentRequests", longOf(status, "maxConcurrentRequests"));
+        entry.put("emaLatencyMs", doubleOf(status, "emaLatencyMs"));
+        entry.put("processedCount", longOf(status, "processedCount"));
+        entry.put("expiredCount", longOf(status, "expiredCount"));
+        entry.put("limiterAlgorithm", status.get("limiterAlgorithm"));
+        entry.put("schedulingMode", status.get("schedulingMode"));
+        entry.put("processingMode", status.get("processingMode"));
+        return entry;
+    }
+
+    private Map<String, Object> build(List<Map<String, Object>> entries) {
+        long queueSize = 0;
+        long processing = 0;
+        long limit = 0;
+        long processed = 0;
+        long expired = 0;
+        double emaSum = 0;
+        double emaMax = 0;
+        int up = 0;
+        for (Map<String, Object> entry : entries) {
+            if (!Boolean.TRUE.equals(entry.get("up"))) {
+                continue;
+            }
+            up++;
+            queueSize += (long) entry.get("queueSize");
+            processing += (long) entry.get("currentProcessing");
+            limit += (long) entry.get("maxConcurrentRequests");
+            processed += (long) entry.get("processedCount");
+            expired += (long) entry.get("expiredCount");
+            double ema = (double) entry.get("emaLatencyMs");
+            emaSum += ema;
+            emaMax = Math.max(emaMax, ema);
+        }
+
+        Map<String, Object> cluster = new LinkedHashMap<>();
+        cluster.put("serversUp", up);
+        cluster.put("serversDown", entries.size() - up);
+        cluster.put("queueSize", queueSize);
+        cluster.put("currentProcessing", processing);
+        cluster.put("maxConcurrentRequests", limit);
+        cluster.put("processedCount", processed);
+        cluster.put("expiredCount", expired);
+        cluster.put("emaLatencyMsAvg", up == 0 ? 0.0 : emaSum / up);
+        cluster.put("emaLatencyMsMax", emaMax);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("generatedAtEpochMs", System.currentTimeMillis());
+        result.put("refreshMs", refreshMs);
+        result.put("refreshCount", refreshCount.get() + 1);
+        result.put("cluster", cluster);
+        result.put("servers", new ArrayList<>(entries));
+        return result;
+    }
+
+    private static long longOf(Map<String, Object> status, String key) {
+        Object value = status.get(key);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static double doubleOf(Map<String, Object> status, String key) {
+        Object value = status.get(key);
+        return value instanceof Number number ? number.doubleValue() : 0.0;
+    }
+}
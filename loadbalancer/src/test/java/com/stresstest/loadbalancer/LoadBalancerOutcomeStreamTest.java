@@ -0,0 +1,54 @@
+package com.stresstest.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 결과 스트림 프록시가 서버 스트림의 종료/실패를 클라이언트에 전달하는지 확인
+ */
+class LoadBalancerOutcomeStreamTest {
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    /** 끝나지 않는 하트비트 */
+    private final Flux<ServerSentEvent<String>> heartbeat = Flux.interval(Duration.ofMillis(5))
+            .map(tick -> ServerSentEvent.<String>builder().comment("keepalive").build())
+            .share();
+
+    @Test
+    void completesWhenUpstreamCompletes() {
+        Flux<ServerSentEvent<String>> upstream = Flux.interval(Duration.ofMillis(20))
+                .take(3)
+                .map(i -> ServerSentEvent.<String>builder().data("outcome-" + i).build())
+                .concatWith(Flux.just(ServerSentEvent.<String>builder().comment("server keepalive").build()));
+
+        List<ServerSentEvent<String>> events = LoadBalancer.withHeartbeat(upstream, heartbeat)
+                .collectList()
+                .block(BLOCK_TIMEOUT);
+
+        List<String> data = events.stream().filter(event -> event.data() != null).map(ServerSentEvent::data).toList();
+        assertEquals(List.of("outcome-0", "outcome-1", "outcome-2"), data);
+        // 서버 하트비트는 걸러지고 로드밸런서 하트비트만 남는다
+        assertTrue(events.stream().filter(event -> event.data() == null)
+                .allMatch(event -> "keepalive".equals(event.comment())));
+    }
+
+    @Test
+    void failsWhenUpstreamFails() {
+        Flux<ServerSentEvent<String>> upstream = Flux.interval(Duration.ofMillis(20))
+                .take(2)
+                .map(i -> ServerSentEvent.<String>builder().data("outcome-" + i).build())
+                .concatWith(Flux.error(new IllegalStateException("server restarted")));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> LoadBalancer.withHeartbeat(upstream, heartbeat).blockLast(BLOCK_TIMEOUT));
+        assertEquals("server restarted", error.getMessage());
+    }
+}
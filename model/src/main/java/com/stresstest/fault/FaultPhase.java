@@ -0,0 +1,62 @@
+package com.stresstest.fault;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 장애 시나리오의 한 구간
+ * - 설정은 "키=값" 목록이다. 값에 ':'가 있으면 지연 분포, 없으면 비율(0~1)로 해석한다.
+ * - 어떤 키를 쓰는지는 적용하는 쪽(서버 처리기, 로드밸런서 포워딩)이 정한다.
+ */
+public final class FaultPhase {
+    private final long durationMs;
+    private final Map<String, LatencyDistribution> distributions;
+    private final Map<String, Double> rates;
+    private final String spec;
+
+    FaultPhase(long durationMs, Map<String, String> settings, String spec) {
+        this.durationMs = durationMs;
+        this.spec = spec;
+        Map<String, LatencyDistribution> distributions = new LinkedHashMap<>();
+        Map<String, Double> rates = new LinkedHashMap<>();
+        settings.forEach((key, value) -> {
+            if (value.indexOf(':') >= 0) {
+                distributions.put(key, LatencyDistribution.parse(value));
+                return;
+            }
+            double rate = Double.parseDouble(value);
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Rate must be within [0, 1]: " + key + "=" + value);
+            }
+            rates.put(key, rate);
+        });
+        this.distributions = Collections.unmodifiableMap(distributions);
+        this.rates = Collections.unmodifiableMap(rates);
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /** 지연 분포. 없으면 null */
+    public LatencyDistribution getDistribution(String key) {
+        return distributions.get(key);
+    }
+
+    /** 비율. 없으면 fallback */
+    public double getRate(String key, double fallback) {
+        Double rate = rates.get(key);
+        return rate == null ? fallback : rate;
+    }
+
+    /** 주입 설정이 없는 정상 구간 여부 */
+    public boolean isNormal() {
+        return distributions.isEmpty() && rates.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
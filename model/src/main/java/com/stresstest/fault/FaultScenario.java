@@ -0,0 +1,122 @@
+package com.stresstest.fault;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 시간 구간별 장애 주입 시나리오
+ * - 형식: 구간을 ';'로 구분하고, 각 구간은 "기간 [키=값,키=값...]" (기간 단위 ms/s/m)
+ *   예) "30s; 60s latency=lognormal:20:200,failure=0.05; 30s"
+ *   → 30초 정상, 60초 지연+5% 실패, 이후 정상
+ * - 마지막 구간이 끝나면 repeat=false 이면 마지막 구간을 유지하고, true 이면 처음부터 반복한다.
+ * - 시나리오 시계는 생성 시점 또는 restart() 호출 시점부터 흐른다(벤치마크 시작에 맞춰 재시작).
+ */
+public final class FaultScenario {
+    private final String spec;
+    private final List<FaultPhase> phases;
+    private final boolean repeat;
+    private final long totalMs;
+    private volatile long startNanos = System.nanoTime();
+
+    private FaultScenario(String spec, List<FaultPhase> phases, boolean repeat) {
+        this.spec = spec;
+        this.phases = Collections.unmodifiableList(phases);
+        this.repeat = repeat;
+        this.totalMs = phases.stream().mapToLong(FaultPhase::getDurationMs).sum();
+    }
+
+    /**
+     * 시나리오 문자열 파싱. 비어 있으면 구간 없는(주입하지 않는) 시나리오
+     */
+    public static FaultScenario parse(String spec, boolean repeat) {
+        String normalized = spec == null ? "" : spec.trim();
+        List<FaultPhase> phases = new ArrayList<>();
+        for (String phaseSpec : normalized.split(";")) {
+            String trimmed = phaseSpec.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+", 2);
+            Map<String, String> settings = new LinkedHashMap<>();
+            if (parts.length > 1) {
+                for (String setting : parts[1].split(",")) {
+                    int eq = setting.indexOf('=');
+                    if (eq <= 0) {
+                        throw new IllegalArgumentException("Invalid fault setting '" + setting + "' in: " + trimmed);
+                    }
+                    settings.put(setting.substring(0, eq).trim(), setting.substring(eq + 1).trim());
+                }
+            }
+            phases.add(new FaultPhase(parseDurationMs(parts[0]), settings, trimmed));
+        }
+        return new FaultScenario(normalized, phases, repeat);
+    }
+
+    /** "500ms", "30s", "2m" 또는 초 단위 숫자 */
+    static long parseDurationMs(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (v.endsWith("ms")) {
+                return Long.parseLong(v.substring(0, v.length() - 2));
+            }
+            if (v.endsWith("s")) {
+                return Long.parseLong(v.substring(0, v.length() - 1)) * 1_000L;
+            }
+            if (v.endsWith("m")) {
+                return Long.parseLong(v.substring(0, v.length() - 1)) * 60_000L;
+            }
+            return Long.parseLong(v) * 1_000L;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid phase duration: " + value, e);
+        }
+    }
+
+    /** 시나리오 시계를 처음으로 되돌림 */
+    public void restart() {
+        startNanos = System.nanoTime();
+    }
+
+    /** 현재 구간 인덱스. 구간이 없으면 -1 */
+    public int currentPhaseIndex() {
+        if (phases.isEmpty()) {
+            return -1;
+        }
+        long elapsedMs = getElapsedMs();
+        if (repeat && totalMs > 0) {
+            elapsedMs %= totalMs;
+        }
+        for (int i = 0; i < phases.size(); i++) {
+            elapsedMs -= phases.get(i).getDurationMs();
+            if (elapsedMs < 0) {
+                return i;
+            }
+        }
+        return phases.size() - 1;
+    }
+
+    /** 현재 구간. 구간이 없으면 null */
+    public FaultPhase currentPhase() {
+        int index = currentPhaseIndex();
+        return index < 0 ? null : phases.get(index);
+    }
+
+    public long getElapsedMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        int index = currentPhaseIndex();
+        status.put("scenario", spec);
+        status.put("repeat", repeat);
+        status.put("phases", phases.size());
+        status.put("elapsedMs", getElapsedMs());
+        status.put("phaseIndex", index);
+        status.put("phase", index < 0 ? null : phases.get(index).toString());
+        return status;
+    }
+}
@@ -0,0 +1,11 @@
+package com.stresstest.fault;
+
+/**
+ * 장애 주입으로 발생시킨 실패
+ * 실제 오류와 구분할 수 있도록 별도 타입으로 던진다.
+ */
+public class InjectedFaultException extends RuntimeException {
+    public InjectedFaultException(String message) {
+        super(message);
+    }
+}
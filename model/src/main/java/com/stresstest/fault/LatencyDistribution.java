@@ -0,0 +1,88 @@
+package com.stresstest.fault;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주입 지연(ms) 분포
+ * - fixed:100          항상 100ms
+ * - uniform:10:50      10~50ms 균등
+ * - exp:20             평균 20ms 지수 분포 (짧은 지연이 대부분이고 긴 꼬리가 드물게 발생)
+ * - lognormal:20:200   중앙값 20ms, p99 200ms 로그정규 분포 (DB 지연 꼬리 모사)
+ * 표본은 MAX_MS로 잘라 한 건이 처리 스레드를 무한정 잡지 않게 한다.
+ */
+public final class LatencyDistribution {
+    /** 표본 상한(ms) */
+    public static final long MAX_MS = 60_000L;
+    /** 표준정규 분포 p99 z값 */
+    private static final double Z_99 = 2.326;
+
+    public enum Kind {FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL}
+
+    private final Kind kind;
+    private final double first;
+    private final double second;
+    private final String spec;
+
+    private LatencyDistribution(Kind kind, double first, double second, String spec) {
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+        this.spec = spec;
+    }
+
+    /**
+     * "종류:인자[:인자]" 형식의 분포 파싱
+     */
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        try {
+            switch (parts[0]) {
+                case "fixed":
+                    return new LatencyDistribution(Kind.FIXED, Double.parseDouble(parts[1]), 0, spec.trim());
+                case "uniform":
+                    double low = Double.parseDouble(parts[1]);
+                    double high = Double.parseDouble(parts[2]);
+                    if (high < low) {
+                        throw new IllegalArgumentException("uniform upper bound below lower bound: " + spec);
+                    }
+                    return new LatencyDistribution(Kind.UNIFORM, low, high, spec.trim());
+                case "exp":
+                    return new LatencyDistribution(Kind.EXPONENTIAL, Double.parseDouble(parts[1]), 0, spec.trim());
+                case "lognormal":
+                    double p50 = Double.parseDouble(parts[1]);
+                    double p99 = Double.parseDouble(parts[2]);
+                    if (p50 <= 0 || p99 < p50) {
+                        throw new IllegalArgumentException("lognormal requires 0 < p50 <= p99: " + spec);
+                    }
+                    double mu = Math.log(p50);
+                    return new LatencyDistribution(Kind.LOGNORMAL, mu, (Math.log(p99) - mu) / Z_99, spec.trim());
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, e);
+        }
+    }
+
+    /** 지연 표본(ms) */
+    public long sampleMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double value = switch (kind) {
+            case FIXED -> first;
+            case UNIFORM -> first + random.nextDouble() * (second - first);
+            case EXPONENTIAL -> -first * Math.log(1.0 - random.nextDouble());
+            case LOGNORMAL -> Math.exp(first + second * random.nextGaussian());
+        };
+        return Math.max(0L, Math.min(MAX_MS, Math.round(value)));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
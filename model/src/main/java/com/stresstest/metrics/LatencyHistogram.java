@@ -0,0 +1,85 @@
+package com.stresstest.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 로그 버킷 지연 히스토그램
+ * - 2의 거듭제곱 구간을 4개로 나눈 버킷(상대 오차 최대 25%)에 us 단위로 누적한다.
+ * - 기록은 AtomicLongArray 증가 한 번이므로 여러 스레드에서 락 없이 호출할 수 있다.
+ * - 메모리는 샘플 수와 무관하게 일정하다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+    private static final int MAGNITUDES = 40;
+    private static final int BUCKETS = SUB_BUCKETS * MAGNITUDES;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong(0);
+    private final AtomicLong maxMicros = new AtomicLong(0);
+
+    /** 지연(us) 한 건을 기록 */
+    public void record(long micros) {
+        long v = Math.max(0L, micros);
+        counts.incrementAndGet(indexOf(v));
+        totalCount.incrementAndGet();
+        maxMicros.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * 백분위 지연(us)을 반환. 해당 버킷의 상한값이므로 실제보다 약간 크게 나올 수 있다.
+     *
+     * @param percentile 0~100
+     */
+    public long percentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= Math.max(1L, rank)) {
+                return Math.min(upperBoundOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /** 누적값 초기화. 기록과 동시에 호출되면 일부 샘플이 남을 수 있다. */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.set(0L);
+        maxMicros.set(0L);
+    }
+
+    private static int indexOf(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) ((v >>> (magnitude - 2)) & (SUB_BUCKETS - 1));
+        return Math.min(BUCKETS - 1, (magnitude - 1) * SUB_BUCKETS + sub);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + 1;
+        int sub = index % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (magnitude - 2);
+        return lower + (1L << (magnitude - 2)) - 1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.stresstest.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 여러 강좌를 한 번에 신청하는 장바구니 요청 DTO
+ * - 큐에는 한 건으로 적재되고, 한 트랜잭션에서 모든 강좌를 처리한다.
+ * - 강좌 식별자는 중복 제거 후 오름차순으로 보관하며, 락도 이 순서대로 획득한다.
+ *   모든 장바구니가 같은 순서로 락을 잡으므로 서로 교착되지 않는다.
+ * - courseId(가장 작은 강좌 식별자)는 구간 지표/로그용이다. 강좌별 동시 처리 한도는 담긴 모든 강좌에 적용되며,
+ *   partitioned 처리 방식에서는 강좌 하나짜리 장바구니만 받는다.
+ */
+@JsonIgnoreProperties(value = {"courseId"})
+public class CartEnrollmentRequest extends EnrollmentRequest {
+    /** 한 장바구니에 담을 수 있는 최대 강좌 수 */
+    public static final int MAX_COURSES = 20;
+
+    /** 처리 방식 */
+    public enum Mode {
+        /** 하나라도 실패하면 전체 롤백 */
+        ALL_OR_NOTHING,
+        /** 가능한 강좌만 등록 */
+        BEST_EFFORT
+    }
+
+    /** 신청 강좌 식별자 (오름차순, 중복 없음) */
+    private final List<Long> courseIds;
+    private final Mode mode;
+    /** 처리 결과. 서버 내부에서 컨트롤러 응답을 완료하는 데 사용 */
+    private final CompletableFuture<CartEnrollmentResult> result = new CompletableFuture<>();
+
+    @JsonCreator
+    public CartEnrollmentRequest(
+            @JsonProperty(value = "userId", required = true) Long userId,
+            @JsonProperty(value = "courseIds", required = true) List<Long> courseIds,
+            @JsonProperty(value = "priority", required = true) Integer priority,
+            @JsonProperty(value = "mode") Mode mode
+    ) {
+        this(userId, sortedDistinct(courseIds), priority, mode);
+    }
+
+    private CartEnrollmentRequest(Long userId, TreeSet<Long> sortedIds, Integer priority, Mode mode) {
+        super(userId, sortedIds.first(), priority);
+        this.courseIds = List.copyOf(sortedIds);
+        this.mode = mode != null ? mode : Mode.ALL_OR_NOTHING;
+    }
+
+    private static TreeSet<Long> sortedDistinct(List<Long> courseIds) {
+        Objects.requireNonNull(courseIds, "courseIds must not be null");
+        TreeSet<Long> sorted = new TreeSet<>();
+        for (Long id : courseIds) {
+            sorted.add(Objects.requireNonNull(id, "courseIds must not contain null"));
+        }
+        if (sorted.isEmpty() || sorted.size() > MAX_COURSES) {
+            throw new IllegalArgumentException("courseIds must contain 1.." + MAX_COURSES + " courses");
+        }
+        return sorted;
+    }
+
+    public List<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /** 처리 결과 future */
+    @JsonIgnore
+    public CompletableFuture<CartEnrollmentResult> getResult() {
+        return result;
+    }
+
+    /** 기한 만료로 버려질 때 대기 중인 호출자를 깨운다. */
+    @Override
+    public void onExpired() {
+        result.cancel(false);
+    }
+}
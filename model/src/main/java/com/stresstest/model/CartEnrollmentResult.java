@@ -0,0 +1,67 @@
+package com.stresstest.model;
+
+import java.util.List;
+
+/**
+ * 장바구니 신청 처리 결과 DTO
+ * - 강좌별 결과와 전체 성공 여부를 함께 담는다.
+ * - ALL_OR_NOTHING 모드에서 실패하면 모든 강좌 등록이 롤백된 상태이다.
+ */
+public class CartEnrollmentResult {
+    /** 모드 기준 성공 여부 (ALL_OR_NOTHING: 전부 등록 / BEST_EFFORT: 하나 이상 등록) */
+    private final boolean success;
+    private final CartEnrollmentRequest.Mode mode;
+    /** 트랜잭션이 롤백되었는지 여부 */
+    private final boolean rolledBack;
+    private final List<CourseOutcome> results;
+
+    public CartEnrollmentResult(boolean success, CartEnrollmentRequest.Mode mode, boolean rolledBack, List<CourseOutcome> results) {
+        this.success = success;
+        this.mode = mode;
+        this.rolledBack = rolledBack;
+        this.results = List.copyOf(results);
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public CartEnrollmentRequest.Mode getMode() {
+        return mode;
+    }
+
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    public List<CourseOutcome> getResults() {
+        return results;
+    }
+
+    /**
+     * 강좌 한 건의 처리 결과
+     */
+    public static class CourseOutcome {
+        private final Long courseId;
+        private final boolean enrolled;
+        private final String message;
+
+        public CourseOutcome(Long courseId, boolean enrolled, String message) {
+            this.courseId = courseId;
+            this.enrolled = enrolled;
+            this.message = message;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public boolean isEnrolled() {
+            return enrolled;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.stresstest.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+/**
+ * 수강 신청 요청 DTO
+ * - 큐에 적재되어 처리되는 입력 모델
+ */
+public class EnrollmentRequest {
+    /** 로드밸런서가 서버로 전달하는 응답 대기 기한 헤더 (epoch ms) */
+    public static final String DEADLINE_HEADER = "X-Enroll-Deadline";
+
+    /** 신청 사용자 식별자 */
+    private final Long userId;
+    /** 신청 대상 강좌 식별자 */
+    private final Long courseId;
+    /** 우선순위 (값이 낮을수록 높은 우선순위) */
+    private final Integer priority; // 우선순위 (낮을수록 높은 우선순위)
+    /** 큐 적재 시각(ns, System.nanoTime 기준). 서버 내부에서만 사용 */
+    private volatile long enqueuedAtNanos;
+    /** 클라이언트 응답 대기 기한(epoch ms). null이면 기한 없음 */
+    private volatile Long deadlineEpochMs;
+    /** 서버가 발급한 결과 스트림 티켓. 서버 내부에서만 사용 */
+    private volatile String ticketId;
+    
+    @JsonCreator
+    public EnrollmentRequest(
+            @JsonProperty(value = "userId", required = true) Long userId,
+            @JsonProperty(value = "courseId", required = true) Long courseId,
+            @JsonProperty(value = "priority", required = true) Integer priority
+    ) {
+        this.userId = Objects.requireNonNull(userId, "userId must not be null");
+        this.courseId = Objects.requireNonNull(courseId, "courseId must not be null");
+        this.priority = Objects.requireNonNull(priority, "priority must not be null");
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public Long getCourseId() {
+        return courseId;
+    }
+    
+    public Integer getPriority() {
+        return priority;
+    }
+    
+    @JsonIgnore
+    public long getEnqueuedAtNanos() {
+        return enqueuedAtNanos;
+    }
+    
+    /** 큐 적재 시각을 기록 */
+    public void markEnqueued(long nanoTime) {
+        this.enqueuedAtNanos = nanoTime;
+    }
+    
+    @JsonIgnore
+    public Long getDeadlineEpochMs() {
+        return deadlineEpochMs;
+    }
+    
+    public void setDeadlineEpochMs(Long deadlineEpochMs) {
+        this.deadlineEpochMs = deadlineEpochMs;
+    }
+    
+    @JsonIgnore
+    public String getTicketId() {
+        return ticketId;
+    }
+    
+    public void setTicketId(String ticketId) {
+        this.ticketId = ticketId;
+    }
+    
+    /**
+     * 기한이 지나 호출자가 더 이상 기다리지 않는 요청인지 여부
+     */
+    public boolean isExpired(long nowEpochMs) {
+        Long deadline = deadlineEpochMs;
+        return deadline != null && nowEpochMs > deadline;
+    }
+    
+    /**
+     * 기한 만료로 처리 없이 버려질 때 호출. 결과를 기다리는 호출자가 있는 하위 타입이 재정의한다.
+     */
+    public void onExpired() {
+    }
+}
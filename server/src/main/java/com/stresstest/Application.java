@@ -0,0 +1,59 @@
+package com.stresstest;
+
+import com.stresstest.model.Course;
+import com.stresstest.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+@Slf4j
+@SpringBootApplication
+@RequiredArgsConstructor
+/**
+ * 수강 신청 서버 애플리케이션 진입점
+ * - 로드밸런서는 별도 모듈(loadbalancer)의 애플리케이션으로 실행한다.
+ */
+public class Application {
+    /**
+     * 강좌 데이터 초기화 및 조회/저장을 담당하는 저장소
+     * reactive 프로필에서는 JPA 저장소가 없으므로 있을 때만 사용한다(reactive 초기 데이터는 ReactiveCourseStore가 생성).
+     */
+    private final ObjectProvider<CourseRepository> courseRepository;
+    
+    /**
+     * 스프링 부트 애플리케이션 진입점
+     *
+     * @param args 실행 인자
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(Application.class, args);
+    }
+    
+    /**
+     * 애플리케이션 기동 시 예시 강좌 데이터를 생성
+     */
+    @Bean
+    public CommandLineRunner initData() {
+        return args -> courseRepository.ifAvailable(this::seedCourses);
+    }
+    
+    private void seedCourses(CourseRepository repository) {
+        if (repository.count() == 0) {
+            Course course1 = new Course("Java Programming", 100);
+            repository.save(course1);
+            
+            Course course2 = new Course("Spring Boot", 50);
+            repository.save(course2);
+            
+            Course course3 = new Course("Database Design", 30);
+            repository.save(course3);
+            
+            log.info("Initial courses created");
+        }
+    }
+}
+
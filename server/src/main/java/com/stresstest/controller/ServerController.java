@@ -0,0 +1,433 @@
+package com.stresstest.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stresstest.export.EnrollmentExporter;
+import com.stresstest.fault.ProcessingFaultInjector;
+import com.stresstest.model.CancellationRequest;
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.Course;
+import com.stresstest.model.Enrollment;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.model.EnrollmentView;
+import com.stresstest.outcome.EnrollmentOutcome;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import com.stresstest.repository.CourseRepository;
+import com.stresstest.service.CoursePartitionedExecutor;
+import com.stresstest.service.EnrollmentQueryService;
+import com.stresstest.service.EnrollmentService;
+import com.stresstest.service.UnsupportedCartException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api")
+@RequiredArgsConstructor
+/**
+ * 개별 서버 인스턴스의 비즈니스 API 컨트롤러
+ * - 수강 신청 큐에 요청 적재
+ * - 강좌/등록 내역 조회
+ * - 큐 상태 조회 및 동시 처리 설정
+ */
+public class ServerController {
+    /** 수강 신청 처리 로직을 제공하는 서비스 */
+    private final EnrollmentService enrollmentService;
+    /** 강좌 데이터 접근 저장소 */
+    private final CourseRepository courseRepository;
+    /** 등록 내역 조회 전용 서비스 */
+    private final EnrollmentQueryService enrollmentQueryService;
+    /** 등록 내역 스트리밍 직렬화용 */
+    private final ObjectMapper objectMapper;
+    /** 우선순위 기반 신청 대기열 */
+    private final PriorityEnrollmentQueue queue;
+    /** 강좌 단위 레인 실행기 (partitioned 모드) */
+    private final CoursePartitionedExecutor partitionedExecutor;
+    /** 처리 결과 SSE 발행기 */
+    private final OutcomeBroadcaster outcomeBroadcaster;
+    /** 벤치마크용 장애 주입기 */
+    private final ProcessingFaultInjector faultInjector;
+    /** 등록 내역 대량 내보내기 */
+    private final EnrollmentExporter enrollmentExporter;
+    
+    /** 현재 서버 인스턴스가 바인딩된 포트. 응답 정보에 포함됨 */
+    @Value("${server.port:8080}")
+    private int serverPort;
+    /** 결과 스트림 연결 유지 상한(ms). 0이면 제한 없음 (끊긴 연결은 하트비트 전송 실패로 정리) */
+    @Value("${outcome.stream.timeoutMs:0}")
+    private long outcomeStreamTimeoutMs;
+    
+    /**
+     * 수강 신청 요청을 큐에 올림
+     */
+    @PostMapping("/enroll")
+    public ResponseEntity<Map<String, Object>> enroll(
+            @RequestBody EnrollmentRequest request,
+            @RequestHeader(value = EnrollmentRequest.DEADLINE_HEADER, required = false) Long deadlineEpochMs) {
+        log.info("Enrollment request received on server port {}: {}", serverPort, request);
+        request.setDeadlineEpochMs(deadlineEpochMs);
+        request.setTicketId(outcomeBroadcaster.nextTicket());
+        enrollmentService.requestEnrollment(request);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "queued");
+        response.put("message", "Request added to queue");
+        response.put("ticketId", request.getTicketId());
+        response.put("serverPort", serverPort);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 여러 강좌를 한 번에 신청
+     * 큐에는 한 건으로 적재되며, 처리 완료 시 강좌별 결과를 응답한다(비동기 응답).
+     * 기한 안에 처리되지 못하면 504, 처리 방식이 지원하지 않는 장바구니(partitioned 모드의 여러 강좌)는 409를 반환한다.
+     */
+    @PostMapping("/enroll/cart")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> enrollCart(
+            @RequestBody CartEnrollmentRequest request,
+            @RequestHeader(value = EnrollmentRequest.DEADLINE_HEADER, required = false) Long deadlineEpochMs) {
+        log.info("Cart enrollment request received on server port {}: userId={}, courseIds={}, mode={}",
+                serverPort, request.getUserId(), request.getCourseIds(), request.getMode());
+        request.setDeadlineEpochMs(deadlineEpochMs);
+        request.setTicketId(outcomeBroadcaster.nextTicket());
+        return enrollmentService.requestCart(request).handle((result, error) -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("serverPort", serverPort);
+            if (error != null) {
+                boolean expired = error instanceof CancellationException;
+                response.put("success", false);
+                if (error instanceof UnsupportedCartException) {
+                    response.put("message", error.getMessage());
+                    return ResponseEntity.status(409).body(response);
+                }
+                response.put("message", expired ? "Deadline exceeded" : "Error: " + error.getMessage());
+                return ResponseEntity.status(expired ? 504 : 500).body(response);
+            }
+            response.put("success", result.isSuccess());
+            response.put("mode", result.getMode());
+            response.put("rolledBack", result.isRolledBack());
+            response.put("results", result.getResults());
+            return ResponseEntity.ok(response);
+        });
+    }
+    
+    /**
+     * 사용자 처리 결과 스트림 (Server-Sent Events)
+     * 신청 전에 구독해 두면 처리 완료 시 결과가 푸시된다. ticket을 주면 해당 신청의 결과만 받는다.
+     * 장시간 연결이므로 전역 비동기 요청 제한 시간 대신 outcome.stream.timeoutMs 를 적용한다.
+     */
+    @GetMapping(value = "/outcomes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOutcomes(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String ticket) {
+        SseEmitter emitter = new SseEmitter(outcomeStreamTimeoutMs);
+        // 전송(블로킹 쓰기)은 결과를 발행한 처리 스레드가 아닌 별도 스레드에서 한 건씩 수행
+        Disposable subscription = outcomeBroadcaster.subscribe(userId, ticket)
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .subscribe(event -> sendEvent(emitter, event), emitter::completeWithError, emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
+    }
+    
+    private static void sendEvent(SseEmitter emitter, ServerSentEvent<EnrollmentOutcome> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.comment() != null) {
+            builder.comment(event.comment());
+        }
+        if (event.event() != null) {
+            builder.name(event.event());
+        }
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        if (event.data() != null) {
+            builder.data(event.data(), MediaType.APPLICATION_JSON);
+        }
+        try {
+            emitter.send(builder);
+        } catch (IOException e) {
+            // 끊긴 연결 → 구독 취소 후 emitter 종료
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 모든 강좌 목록을 반환
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<List<Course>> getAllCourses() {
+        return ResponseEntity.ok(courseRepository.findAll());
+    }
+    
+    /**
+     * ID로 강좌를 조회
+     */
+    @GetMapping("/courses/{id}")
+    public ResponseEntity<Course> getCourse(@PathVariable Long id) {
+        return courseRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 강좌를 생성
+     */
+    @PostMapping("/courses")
+    public ResponseEntity<Course> createCourse(@RequestBody Course course) {
+        return ResponseEntity.ok(courseRepository.save(course));
+    }
+    
+    /**
+     * 특정 사용자 ID의 수강 신청 내역을 키셋 페이지 단위로 조회
+     * - 강좌명을 포함한 프로젝션을 한 번의 쿼리로 가져온다.
+     * - 응답은 중간 Map/List 트리 없이 항목 단위로 바로 스트리밍한다.
+     *
+     * @param after 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size  페이지 크기 (최대 500)
+     */
+    @GetMapping(value = "/enrollments/user/{userId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getUserEnrollments(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int size) {
+        EnrollmentQueryService.UserEnrollmentPage page = enrollmentQueryService.findUserEnrollments(userId, after, size);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                // 응답 스트림은 컨테이너가 닫는다
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeNumberField("userId", page.getUserId());
+                generator.writeArrayFieldStart("items");
+                for (EnrollmentView item : page.getItems()) {
+                    generator.writeObject(item);
+                }
+                generator.writeEndArray();
+                if (page.getNextCursor() != null) {
+                    generator.writeNumberField("nextCursor", page.getNextCursor());
+                } else {
+                    generator.writeNullField("nextCursor");
+                }
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+    
+    /**
+     * 수강 취소 (대기 중이면 대기 취소)
+     * 등록이 취소되면 같은 트랜잭션에서 다음 대기자가 승격된다.
+     */
+    @PostMapping("/enrollments/cancel")
+    public ResponseEntity<Map<String, Object>> cancelEnrollment(@RequestBody CancellationRequest request) {
+        EnrollmentService.CancellationResult result = enrollmentService.cancelEnrollment(request);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("cancelled", result.isCancelled());
+        response.put("message", result.getMessage());
+        response.put("promotedUserId", result.getPromotedUserId());
+        response.put("serverPort", serverPort);
+        if (!result.isCancelled()) {
+            return ResponseEntity.status(404).body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 대기 순번 조회. 재신청 대신 이 값으로 대기 상태를 확인한다.
+     */
+    @GetMapping("/waitlist/course/{courseId}/user/{userId}")
+    public ResponseEntity<Map<String, Object>> getWaitlistPosition(@PathVariable Long courseId, @PathVariable Long userId) {
+        Long position = enrollmentService.getWaitlistPosition(userId, courseId);
+        if (position == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("courseId", courseId);
+        response.put("userId", userId);
+        response.put("position", position);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 등록 내역 대량 내보내기 (신청 기간 종료 후 사용)
+     * 커서로 읽은 행을 바로 응답에 쓰므로 행 수와 관계없이 서버 메모리는 일정하다.
+     * 동시 내보내기가 상한에 닿으면 503, status 값이 잘못되면 400을 반환한다.
+     *
+     * @param courseId 강좌 식별자 (생략하면 전체 강좌)
+     * @param status   PENDING | SUCCESS | FAILED (생략하면 전체)
+     * @param format   csv | ndjson
+     * @param gzip     true면 gzip 파일로 응답
+     * @param after    이 식별자 이후 행부터 (중단된 내보내기 재개용)
+     */
+    @GetMapping("/export/enrollments")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "0") long after,
+            NativeWebRequest webRequest) {
+        Enrollment.EnrollmentStatus statusFilter;
+        try {
+            statusFilter = status != null ? Enrollment.EnrollmentStatus.valueOf(status.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        EnrollmentExporter.Job job = enrollmentExporter.tryStart(
+                courseId, statusFilter, after, EnrollmentExporter.Format.from(format), gzip);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(job, job.asyncInterceptor());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, job.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.getFileName() + "\"")
+                .body(job::writeTo);
+    }
+    
+    /**
+     * 내보내기 진행/누적 지표를 조회
+     */
+    @GetMapping("/export/status")
+    public ResponseEntity<Map<String, Object>> getExportStatus() {
+        Map<String, Object> status = new HashMap<>(enrollmentExporter.getStatus());
+        status.put("serverPort", serverPort);
+        return ResponseEntity.ok(status);
+    }
+    
+    /**
+     * 현재 큐 상태를 조회
+     */
+    @GetMapping("/queue/status")
+    public ResponseEntity<Map<String, Object>> getQueueStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("queueSize", queue.getQueueSize());
+        status.put("currentProcessing", queue.getCurrentProcessing());
+        status.put("maxConcurrentRequests", queue.getMaxConcurrentRequests());
+        status.put("emaLatencyMs", queue.getEmaLatencyMs());
+        status.put("processedCount", queue.getProcessedCount());
+        status.put("expiredCount", queue.getExpiredCount());
+        status.put("limiterAlgorithm", queue.getLimiterAlgorithm());
+        status.put("estimatedRttMs", queue.getEstimatedRttMs());
+        status.put("minRttMs", queue.getMinRttMs());
+        status.put("courseLimits", queue.getCourseLimits());
+        status.put("schedulingMode", queue.getSchedulingMode());
+        status.put("bands", queue.getBandStats());
+        status.put("outcomeStream", outcomeBroadcaster.getStatus());
+        status.put("fault", faultInjector.getStatus());
+        if (partitionedExecutor.isEnabled()) {
+            // partitioned 모드에서는 대기 요청이 강좌별 메일박스에 있다
+            status.put("processingMode", "partitioned");
+            status.put("queueSize", partitionedExecutor.getPendingCount());
+            status.put("expiredCount", partitionedExecutor.getExpiredCount());
+            status.put("partitions", partitionedExecutor.getStatus());
+        } else {
+            status.put("processingMode", "pooled");
+        }
+        status.put("serverPort", serverPort);
+        return ResponseEntity.ok(status);
+    }
+    
+    /**
+     * 구간별 대기 지표를 초기화 (벤치마크 시작 전 호출)
+     */
+    @PostMapping("/queue/stats/reset")
+    public ResponseEntity<Map<String, Object>> resetQueueStats() {
+        queue.resetBandStats();
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Queue band stats reset");
+        response.put("serverPort", serverPort);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 동시 처리 최대값을 갱신
+     */
+    @PostMapping("/queue/max-concurrent")
+    public ResponseEntity<Map<String, Object>> setMaxConcurrent(@RequestBody Map<String, Integer> config) {
+        int max = config.getOrDefault("max", 10);
+        queue.setMaxConcurrentRequests(max);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("maxConcurrentRequests", queue.getMaxConcurrentRequests());
+        response.put("message", "Max concurrent requests updated");
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 장애 주입 상태(현재 구간, 주입 건수)를 조회
+     */
+    @GetMapping("/fault/status")
+    public ResponseEntity<Map<String, Object>> getFaultStatus() {
+        Map<String, Object> status = new HashMap<>(faultInjector.getStatus());
+        status.put("serverPort", serverPort);
+        return ResponseEntity.ok(status);
+    }
+    
+    /**
+     * 장애 시나리오 시계를 처음으로 되돌림 (벤치마크 시작 시 호출하여 구간을 부하와 맞춤)
+     */
+    @PostMapping("/fault/restart")
+    public ResponseEntity<Map<String, Object>> restartFaultScenario() {
+        faultInjector.restart();
+        return getFaultStatus();
+    }
+    
+    /**
+     * 장애 시나리오 교체 ({"scenario": "...", "repeat": false, "enabled": true})
+     * 시나리오 형식이 잘못되면 400을 반환한다.
+     */
+    @PostMapping("/fault/scenario")
+    public ResponseEntity<Map<String, Object>> replaceFaultScenario(@RequestBody Map<String, Object> config) {
+        try {
+            faultInjector.replaceScenario(String.valueOf(config.getOrDefault("scenario", "")),
+                    Boolean.parseBoolean(String.valueOf(config.getOrDefault("repeat", false))));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (config.containsKey("enabled")) {
+            faultInjector.setEnabled(Boolean.parseBoolean(String.valueOf(config.get("enabled"))));
+        }
+        return getFaultStatus();
+    }
+    
+    /**
+     * 단순 헬스 체크 엔드포인트.
+     * 서버가 작동 중인지 아닌지 판단하는 엔드포인트
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<String, Object>> health() {
+        Map<String, Object> health = new HashMap<>();
+        health.put("status", "UP");
+        health.put("serverPort", serverPort);
+        return ResponseEntity.ok(health);
+    }
+}
+
@@ -0,0 +1,318 @@
+package com.stresstest.export;
+
+import com.stresstest.model.Enrollment;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+/**
+ * 등록 내역 대량 내보내기
+ * - 신청 기간이 끝난 뒤 강좌별 등록 행 전체를 CSV/NDJSON으로 응답 스트림에 바로 쓴다.
+ * - 읽기 전용 트랜잭션 안에서 forward-only 커서를 fetchSize 단위로 읽으므로 행 수와 관계없이 메모리는 일정하다.
+ *   (PostgreSQL 드라이버는 autocommit이 꺼져 있을 때만 fetchSize로 커서를 나눠 읽는다)
+ * - 신청 처리용 커넥션 풀과 분리된 작은 전용 풀을 쓰고, 동시 내보내기 수를 풀 크기로 제한하여
+ *   긴 내보내기가 신청 트래픽의 커넥션을 점유하지 않게 한다.
+ * - 행은 id 순으로 내보낸다. 강좌 지정 시 (course_id, id) 인덱스, 전체는 기본 키를 따라 읽어 정렬 단계가 없고,
+ *   중단되면 마지막으로 받은 id를 afterId로 주어 이어 받을 수 있다.
+ */
+public class EnrollmentExporter {
+    private static final String SELECT_COLUMNS =
+            "SELECT id, course_id, user_id, status, enrolled_at FROM enrollments";
+
+    /** 커서 한 번에 가져올 행 수 */
+    @Value("${export.fetchSize:1000}")
+    private int fetchSize;
+    /** 전용 풀 크기 = 동시 내보내기 상한 */
+    @Value("${export.maxConcurrent:2}")
+    private int maxConcurrent;
+    /** 내보내기 한 건의 최대 소요 시간(초). 0이면 제한 없음 (쿼리 제한 시간과 응답 비동기 제한 시간에 함께 적용) */
+    @Value("${export.timeoutSec:0}")
+    private int timeoutSec;
+    /** 출력 버퍼 크기(byte) */
+    @Value("${export.bufferBytes:65536}")
+    private int bufferBytes;
+
+    private final DataSourceProperties dataSourceProperties;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private Semaphore permits;
+
+    private final AtomicLong started = new AtomicLong(0);
+    private final AtomicLong completed = new AtomicLong(0);
+    private final AtomicLong failed = new AtomicLong(0);
+    private final AtomicLong rejected = new AtomicLong(0);
+    private final AtomicLong rowsExported = new AtomicLong(0);
+    private volatile long lastDurationMs;
+    private volatile long lastRows;
+
+    public EnrollmentExporter(DataSourceProperties dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @PostConstruct
+    void init() {
+        // DataSource 빈으로 등록하지 않는다 (등록하면 기본 DataSource 자동 구성이 물러난다)
+        dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("enrollment-export");
+        dataSource.setMaximumPoolSize(maxConcurrent);
+        // 내보내기가 없을 때는 커넥션을 들고 있지 않음
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        if (timeoutSec > 0) {
+            jdbcTemplate.setQueryTimeout(timeoutSec);
+        }
+        readOnlyTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * 내보내기 작업을 예약
+     * 동시 내보내기가 상한에 닿았으면 null (호출 측에서 503으로 응답)
+     * 예약 시 받은 허가는 writeTo가 끝날 때, 또는 writeTo가 실행되지 못한 채 응답이 끝날 때 반납된다
+     * (호출 측은 asyncInterceptor()를 응답의 비동기 처리에 등록해야 한다).
+     *
+     * @param courseId 강좌 식별자. null이면 전체 강좌
+     * @param status   등록 상태 필터. null이면 전체
+     * @param afterId  이 식별자 이후 행부터 (중단된 내보내기 재개용, 처음은 0)
+     */
+    public Job tryStart(Long courseId, Enrollment.EnrollmentStatus status, long afterId, Format format, boolean gzip) {
+        if (!permits.tryAcquire()) {
+            rejected.incrementAndGet();
+            return null;
+        }
+        started.incrementAndGet();
+        return new Job(courseId, status, afterId, format, gzip);
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("active", maxConcurrent - permits.availablePermits());
+        status.put("maxConcurrent", maxConcurrent);
+        status.put("fetchSize", fetchSize);
+        status.put("started", started.get());
+        status.put("completed", completed.get());
+        status.put("failed", failed.get());
+        status.put("rejected", rejected.get());
+        status.put("rowsExported", rowsExported.get());
+        status.put("lastRows", lastRows);
+        status.put("lastDurationMs", lastDurationMs);
+        return status;
+    }
+
+    /**
+     * 출력 형식
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            return "ndjson".equalsIgnoreCase(value) || "json".equalsIgnoreCase(value) ? NDJSON : CSV;
+        }
+    }
+
+    /**
+     * 예약된 내보내기 한 건
+     * writeTo는 한 번만 호출하며, 끝나면(실패 포함) 동시 실행 허가를 반납한다.
+     * writeTo가 시작되기 전에 응답이 끝나면(연결 종료, 비동기 타임아웃, 오류) asyncInterceptor가 대신 반납한다.
+     */
+    public class Job {
+        private final Long courseId;
+        private final Enrollment.EnrollmentStatus status;
+        private final long afterId;
+        private final Format format;
+        private final boolean gzip;
+        /** 허가 반납 책임을 writeTo 또는 비동기 완료 콜백 중 먼저 가져간 쪽이 갖는다 */
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        private Job(Long courseId, Enrollment.EnrollmentStatus status, long afterId, Format format, boolean gzip) {
+            this.courseId = courseId;
+            this.status = status;
+            this.afterId = afterId;
+            this.format = format;
+            this.gzip = gzip;
+        }
+
+        public String getFileName() {
+            String scope = courseId != null ? "course-" + courseId : "all";
+            return "enrollments-" + scope + "." + format.getExtension() + (gzip ? ".gz" : "");
+        }
+
+        public String getContentType() {
+            return gzip ? "application/gzip" : format.getContentType();
+        }
+
+        /**
+         * 응답 비동기 처리에 등록할 인터셉터
+         * - 내보내기는 전역 비동기 제한 시간(spring.mvc.async.request-timeout) 대신 export.timeoutSec을 따른다.
+         * - writeTo가 실행되지 못하고 비동기 처리가 끝나면 허가를 반납한다.
+         */
+        public CallableProcessingInterceptor asyncInterceptor() {
+            return new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                    if (request instanceof AsyncWebRequest asyncRequest) {
+                        asyncRequest.setTimeout(timeoutSec > 0 ? timeoutSec * 1000L : -1L);
+                    }
+                }
+
+                @Override
+                public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                    if (claimed.compareAndSet(false, true)) {
+                        failed.incrementAndGet();
+                        permits.release();
+                        log.warn("Enrollment export ended before writing started: {}", getFileName());
+                    }
+                }
+            };
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            if (!claimed.compareAndSet(false, true)) {
+                throw new IOException("Enrollment export already finished: " + getFileName());
+            }
+            long startNanos = System.nanoTime();
+            long[] rows = {0};
+            try {
+                // 응답 스트림은 컨테이너가 닫으므로 gzip 트레일러만 finish로 기록
+                GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, bufferBytes) : null;
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), bufferBytes);
+                if (format == Format.CSV) {
+                    writer.write("id,course_id,user_id,status,enrolled_at\n");
+                }
+                readOnlyTransaction.executeWithoutResult(tx -> jdbcTemplate.query(this::prepare, rs -> {
+                    writeRow(writer, rs);
+                    rows[0]++;
+                }));
+                writer.flush();
+                if (gzipOut != null) {
+                    gzipOut.finish();
+                }
+                completed.incrementAndGet();
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료 등 출력 실패 → 커서는 트랜잭션 롤백과 함께 닫힘
+                failed.incrementAndGet();
+                log.warn("Enrollment export aborted after {} rows: {}", rows[0], e.getCause().getMessage());
+                throw e.getCause();
+            } catch (RuntimeException | IOException e) {
+                failed.incrementAndGet();
+                log.warn("Enrollment export failed after {} rows: {}", rows[0], e.getMessage());
+                throw e;
+            } finally {
+                rowsExported.addAndGet(rows[0]);
+                lastRows = rows[0];
+                lastDurationMs = (System.nanoTime() - startNanos) / 1_000_000L;
+                permits.release();
+            }
+        }
+
+        private PreparedStatement prepare(Connection connection) throws SQLException {
+            StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" WHERE id > ?");
+            if (courseId != null) {
+                sql.append(" AND course_id = ?");
+            }
+            if (status != null) {
+                sql.append(" AND status = ?");
+            }
+            sql.append(" ORDER BY id");
+
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            int index = 1;
+            statement.setLong(index++, afterId);
+            if (courseId != null) {
+                statement.setLong(index++, courseId);
+            }
+            if (status != null) {
+                statement.setString(index, status.name());
+            }
+            return statement;
+        }
+
+        private void writeRow(Writer writer, ResultSet rs) throws SQLException {
+            long id = rs.getLong(1);
+            long course = rs.getLong(2);
+            long user = rs.getLong(3);
+            String rowStatus = rs.getString(4);
+            Timestamp enrolledAt = rs.getTimestamp(5);
+            String at = enrolledAt != null ? enrolledAt.toLocalDateTime().toString() : "";
+            try {
+                if (format == Format.CSV) {
+                    // 모든 값이 숫자/상태 코드/ISO 시각이라 따옴표 처리가 필요 없음
+                    writer.write(id + "," + course + "," + user + "," + rowStatus + "," + at + "\n");
+                } else {
+                    writer.write("{\"id\":" + id + ",\"courseId\":" + course + ",\"userId\":" + user
+                            + ",\"status\":\"" + rowStatus + "\",\"enrolledAt\":"
+                            + (enrolledAt != null ? "\"" + at + "\"" : "null") + "}\n");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
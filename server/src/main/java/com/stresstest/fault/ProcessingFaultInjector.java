@@ -0,0 +1,140 @@
+package com.stresstest.fault;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 등록 트랜잭션 안에서 지연/락 정체/실패를 주입하는 장애 주입기 (벤치마크 전용)
+ * - 적응형 리미터와 부하 차단이 DB가 느려졌을 때 실제로 DB를 보호하는지 반복 측정하기 위해 사용한다.
+ * - 구간별 설정 키
+ *   latency=분포      강좌 처리 시작 시(커넥션 점유 상태) 지연 - 느린 쿼리 모사
+ *   stall=분포        강좌 행 락을 잡은 뒤 지연 - 같은 강좌의 다른 트랜잭션은 락 획득에서 정체
+ *   stallRate=비율    stall 적용 비율 (기본 1)
+ *   failure=비율      커밋 직전 실패 → 트랜잭션 롤백 (등록 반영까지 마친 뒤 실패하므로 롤백 경로도 검증)
+ * - fault.enabled=false 이면 모든 훅이 즉시 반환한다.
+ */
+public class ProcessingFaultInjector {
+    @Value("${fault.enabled:false}")
+    private volatile boolean enabled;
+    @Value("${fault.scenario:}")
+    private String scenarioSpec;
+    @Value("${fault.repeat:false}")
+    private boolean repeat;
+
+    private volatile FaultScenario scenario;
+
+    private final AtomicLong delayed = new AtomicLong(0);
+    private final AtomicLong stalled = new AtomicLong(0);
+    private final AtomicLong failed = new AtomicLong(0);
+    /** 주입한 지연 합계(ms) */
+    private final AtomicLong injectedMs = new AtomicLong(0);
+
+    @PostConstruct
+    void init() {
+        scenario = FaultScenario.parse(scenarioSpec, repeat);
+        if (enabled) {
+            log.warn("Fault injection enabled: scenario='{}', repeat={}", scenarioSpec, repeat);
+        }
+    }
+
+    /** 강좌 처리 시작 시 지연 */
+    public void beforeCourseWork() {
+        FaultPhase phase = activePhase();
+        if (phase == null) {
+            return;
+        }
+        LatencyDistribution latency = phase.getDistribution("latency");
+        if (latency != null) {
+            sleep(latency.sampleMillis());
+            delayed.incrementAndGet();
+        }
+    }
+
+    /** 강좌 행 락 획득 직후 락을 잡은 채 지연 */
+    public void afterCourseLocked() {
+        FaultPhase phase = activePhase();
+        if (phase == null) {
+            return;
+        }
+        LatencyDistribution stall = phase.getDistribution("stall");
+        if (stall != null && ThreadLocalRandom.current().nextDouble() < phase.getRate("stallRate", 1.0)) {
+            sleep(stall.sampleMillis());
+            stalled.incrementAndGet();
+        }
+    }
+
+    /** 등록 반영 후 커밋 전 실패 */
+    public void beforeCommit() {
+        FaultPhase phase = activePhase();
+        if (phase == null) {
+            return;
+        }
+        double failure = phase.getRate("failure", 0.0);
+        if (failure > 0 && ThreadLocalRandom.current().nextDouble() < failure) {
+            failed.incrementAndGet();
+            throw new InjectedFaultException("Injected transaction failure");
+        }
+    }
+
+    private FaultPhase activePhase() {
+        if (!enabled) {
+            return null;
+        }
+        FaultPhase phase = scenario.currentPhase();
+        return phase == null || phase.isNormal() ? null : phase;
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        injectedMs.addAndGet(millis);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 시나리오 교체 후 시계 재시작 */
+    public void replaceScenario(String spec, boolean repeat) {
+        FaultScenario next = FaultScenario.parse(spec, repeat);
+        this.scenarioSpec = spec;
+        this.repeat = repeat;
+        this.scenario = next;
+        log.warn("Fault scenario replaced: scenario='{}', repeat={}", spec, repeat);
+    }
+
+    /** 시나리오 시계를 처음으로 되돌리고 주입 카운터 초기화 (벤치마크 시작 시 호출) */
+    public void restart() {
+        scenario.restart();
+        delayed.set(0);
+        stalled.set(0);
+        failed.set(0);
+        injectedMs.set(0);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.putAll(scenario.getStatus());
+        status.put("delayed", delayed.get());
+        status.put("stalled", stalled.get());
+        status.put("failed", failed.get());
+        status.put("injectedMs", injectedMs.get());
+        return status;
+    }
+}
@@ -11,8 +11,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * - 수용 인원(capacity)과 현재 등록 인원(currentEnrollment)을 관리
  */
 public class Course {
+    /** 풀링 시퀀스로 발급 (INSERT 배치 가능) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -5,18 +5,24 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "enrollments")
+@Table(
+        name = "enrollments",
+        uniqueConstraints = @UniqueConstraint(name = "ux_enrollments_user_course", columnNames = {"user_id", "course_id"}),
+        indexes = @Index(name = "ix_enrollments_course_id_id", columnList = "course_id, id")
+)
 /**
  * 수강 등록 엔티티
  * - 어느 사용자가 어떤 강좌에 언제 등록되었는지와 상태를 기록한다.
  */
 public class Enrollment {
+    /** 풀링 시퀀스로 발급 (INSERT 배치 가능) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollments_seq")
+    @SequenceGenerator(name = "enrollments_seq", sequenceName = "enrollments_seq", allocationSize = 50)
     private Long id;
     
     /** 등록을 수행한 사용자 식별자 */
-    @Column(nullable = false)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
     
     /** 등록 대상 강좌 */
@@ -29,7 +35,7 @@ public class Enrollment {
     private LocalDateTime enrolledAt;
     
     /** 등록 처리 상태 */
-    @Column(nullable = false)
+    @Column(nullable = false, length = 16)
     @Enumerated(EnumType.STRING)
     private EnrollmentStatus status;
     
@@ -0,0 +1,51 @@
+package com.stresstest.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 등록 내역 조회용 읽기 전용 프로젝션
+ * - 엔티티 대신 필요한 컬럼만 담아, 직렬화 중 지연 로딩(Course)이 일어나지 않게 한다.
+ */
+public class EnrollmentView {
+    private final Long id;
+    private final Long userId;
+    private final Long courseId;
+    private final String courseName;
+    private final LocalDateTime enrolledAt;
+    private final Enrollment.EnrollmentStatus status;
+
+    /** JPQL 생성자 표현식에서 사용 */
+    public EnrollmentView(Long id, Long userId, Long courseId, String courseName,
+                          LocalDateTime enrolledAt, Enrollment.EnrollmentStatus status) {
+        this.id = id;
+        this.userId = userId;
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.enrolledAt = enrolledAt;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public LocalDateTime getEnrolledAt() {
+        return enrolledAt;
+    }
+
+    public Enrollment.EnrollmentStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,76 @@
+package com.stresstest.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "waitlist_entries",
+        uniqueConstraints = @UniqueConstraint(name = "ux_waitlist_course_user", columnNames = {"course_id", "user_id"}),
+        indexes = @Index(name = "ix_waitlist_course_order", columnList = "course_id, priority, id")
+)
+/**
+ * 강좌 대기자 엔티티
+ * - 정원이 찬 강좌에 대한 신청을 식별자와 우선순위만으로 간결하게 기록한다.
+ * - 좌석이 비면 (priority, id) 순서로 다음 대기자가 승격된다.
+ */
+public class WaitlistEntry {
+    /** 풀링 시퀀스로 발급 (INSERT 배치 가능) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entries_seq")
+    @SequenceGenerator(name = "waitlist_entries_seq", sequenceName = "waitlist_entries_seq", allocationSize = 50)
+    private Long id;
+
+    /** 대기 대상 강좌 식별자 (강좌 엔티티를 로딩하지 않도록 값으로 보관) */
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    /** 대기 사용자 식별자 */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 신청 시 우선순위 (낮을수록 먼저 승격) */
+    @Column(nullable = false)
+    private Integer priority;
+
+    /** 대기 등록 시각 */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * JPA를 위한 기본 생성자
+     */
+    protected WaitlistEntry() {
+    }
+
+    /**
+     * 도메인 생성을 위한 생성자
+     */
+    public WaitlistEntry(Long courseId, Long userId, Integer priority, LocalDateTime createdAt) {
+        this.courseId = courseId;
+        this.userId = userId;
+        this.priority = priority;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
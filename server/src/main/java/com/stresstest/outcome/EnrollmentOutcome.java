@@ -0,0 +1,49 @@
+package com.stresstest.outcome;
+
+/**
+ * 수강 신청 처리 결과 이벤트
+ * - 서버가 요청을 처리한 직후 해당 사용자의 SSE 스트림으로 전달된다.
+ */
+public class EnrollmentOutcome {
+    private final Long userId;
+    private final Long courseId;
+    /** 신청 시 서버가 발급한 티켓 (없으면 null) */
+    private final String ticketId;
+    private final boolean success;
+    private final String message;
+    /** 처리 완료 시각(epoch ms) */
+    private final long completedAtEpochMs;
+
+    public EnrollmentOutcome(Long userId, Long courseId, String ticketId, boolean success, String message, long completedAtEpochMs) {
+        this.userId = userId;
+        this.courseId = courseId;
+        this.ticketId = ticketId;
+        this.success = success;
+        this.message = message;
+        this.completedAtEpochMs = completedAtEpochMs;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getCompletedAtEpochMs() {
+        return completedAtEpochMs;
+    }
+}
@@ -0,0 +1,131 @@
+package com.stresstest.outcome;
+
+import com.stresstest.model.EnrollmentRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/**
+ * 처리 결과를 사용자별 SSE 스트림으로 전달하는 브로드캐스터
+ * - 사용자 채널은 구독자가 있을 때만 존재한다. 구독자가 없는 사용자의 결과 발행은 맵 조회 한 번으로 끝난다.
+ * - 채널은 버퍼 없는 멀티캐스트 싱크이고, 버퍼는 구독자마다 bufferSize 만큼만 둔다.
+ *   느린 구독자는 가장 오래된 결과부터 버려지며(드롭 수 집계), 다른 구독자나 처리 스레드를 막지 않는다.
+ * - 하트비트는 모든 구독자가 공유하는 타이머 하나로 보낸다. 끊긴 연결은 하트비트 쓰기 실패로 정리된다.
+ * - 구독 전에 처리된 결과는 전달되지 않으므로, 클라이언트는 신청 전에 스트림을 연다.
+ */
+public class OutcomeBroadcaster {
+    /** 구독자별 미전송 결과 버퍼 크기 */
+    @Value("${outcome.stream.bufferSize:32}")
+    private int bufferSize;
+    /** 하트비트 주기(ms) */
+    @Value("${outcome.stream.heartbeatMs:15000}")
+    private long heartbeatMs;
+
+    /** 구독자가 있는 사용자 채널 */
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    /** 티켓 접두어 (프로세스마다 다름) */
+    private final String ticketPrefix = Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE), 36);
+    private final AtomicLong ticketSequence = new AtomicLong(0);
+
+    private final AtomicInteger subscriberCount = new AtomicInteger(0);
+    /** 구독자에게 발행된 결과 수 */
+    private final AtomicLong publishedCount = new AtomicLong(0);
+    /** 느린 구독자 버퍼 초과로 버려진 결과 수 */
+    private final AtomicLong droppedCount = new AtomicLong(0);
+
+    /** 모든 구독자가 공유하는 하트비트 */
+    private Flux<ServerSentEvent<EnrollmentOutcome>> heartbeat;
+
+    @PostConstruct
+    void init() {
+        heartbeat = Flux.interval(Duration.ofMillis(heartbeatMs))
+                .map(tick -> ServerSentEvent.<EnrollmentOutcome>builder().comment("keepalive").build())
+                .share();
+    }
+
+    /** 신청 티켓 발급 */
+    public String nextTicket() {
+        return ticketPrefix + "-" + Long.toString(ticketSequence.incrementAndGet(), 36);
+    }
+
+    /**
+     * 처리 결과를 사용자 채널에 발행. 구독자가 없으면 아무 것도 하지 않는다.
+     */
+    public void publish(EnrollmentRequest request, Long courseId, boolean success, String message) {
+        Channel channel = channels.get(request.getUserId());
+        if (channel == null) {
+            return;
+        }
+        EnrollmentOutcome outcome = new EnrollmentOutcome(request.getUserId(), courseId, request.getTicketId(),
+                success, message, System.currentTimeMillis());
+        // 같은 사용자의 결과가 여러 스레드에서 동시에 발행될 때만 잠시 재시도
+        channel.sink.emitNext(outcome, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(10)));
+        publishedCount.incrementAndGet();
+    }
+
+    /**
+     * 사용자 결과 스트림. ticketId가 있으면 해당 신청의 결과만 전달한다.
+     */
+    public Flux<ServerSentEvent<EnrollmentOutcome>> subscribe(Long userId, String ticketId) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(userId, (id, existing) -> {
+                Channel target = existing != null ? existing : new Channel();
+                target.subscribers++;
+                return target;
+            });
+            subscriberCount.incrementAndGet();
+            Flux<ServerSentEvent<EnrollmentOutcome>> outcomes = channel.sink.asFlux()
+                    .filter(outcome -> ticketId == null || ticketId.equals(outcome.getTicketId()))
+                    .onBackpressureBuffer(bufferSize, dropped -> droppedCount.incrementAndGet(),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .map(outcome -> ServerSentEvent.builder(outcome)
+                            .event("outcome")
+                            .id(outcome.getTicketId())
+                            .build());
+            return Flux.merge(outcomes, heartbeat)
+                    .doFinally(signal -> release(userId, channel));
+        });
+    }
+
+    /** 구독 종료. 마지막 구독자가 떠나면 채널을 제거한다. */
+    private void release(Long userId, Channel channel) {
+        subscriberCount.decrementAndGet();
+        channels.computeIfPresent(userId, (id, current) -> {
+            if (current != channel) {
+                return current;
+            }
+            return --current.subscribers == 0 ? null : current;
+        });
+    }
+
+    /** 스트림 지표 스냅샷 */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("channels", channels.size());
+        status.put("subscribers", subscriberCount.get());
+        status.put("published", publishedCount.get());
+        status.put("dropped", droppedCount.get());
+        return status;
+    }
+
+    /** 사용자 채널. subscribers 는 channels.compute 안에서만 변경한다. */
+    private static final class Channel {
+        private final Sinks.Many<EnrollmentOutcome> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
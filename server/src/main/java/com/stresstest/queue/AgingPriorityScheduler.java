@@ -0,0 +1,43 @@
+package com.stresstest.queue;
+
+import com.stresstest.model.EnrollmentRequest;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * 대기 시간에 따라 우선순위가 올라가는(aging) 스케줄러
+ * - 정렬 키 = 적재 시각 + priority * agingStep
+ * - priority가 1 높을 때마다 agingStep 만큼 먼저 도착한 것으로 취급한다.
+ * - 따라서 priority p 요청은 자신보다 p * agingStep 이상 늦게 들어온 요청에게 추월당하지 않으며,
+ *   대기 시간 상한이 (p * agingStep + 앞선 요청 처리 시간)으로 제한된다.
+ */
+class AgingPriorityScheduler implements RequestScheduler {
+    private final PriorityBlockingQueue<EnrollmentRequest> queue;
+
+    AgingPriorityScheduler(long agingStepNanos) {
+        Comparator<EnrollmentRequest> agedOrder = Comparator.comparingLong(
+                request -> request.getEnqueuedAtNanos() + request.getPriority() * agingStepNanos);
+        this.queue = new PriorityBlockingQueue<>(10000, agedOrder);
+    }
+
+    @Override
+    public void offer(EnrollmentRequest request) {
+        queue.offer(request);
+    }
+
+    @Override
+    public EnrollmentRequest poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public String getMode() {
+        return "aging";
+    }
+}
@@ -0,0 +1,65 @@
+package com.stresstest.queue;
+
+import java.util.Arrays;
+
+/**
+ * priority 값을 구간(band)으로 나누는 규칙
+ * - bounds = [10, 50] 이면 0~9, 10~49, 50 이상의 세 구간
+ * - 구간마다 가중 공정 큐잉에 쓰는 가중치를 가진다.
+ */
+public class PriorityBands {
+    /** 각 구간의 시작 priority (첫 구간 제외) */
+    private final int[] bounds;
+    private final int[] weights;
+
+    public PriorityBands(int[] bounds, int[] weights) {
+        int[] sorted = bounds.clone();
+        Arrays.sort(sorted);
+        if (weights.length != sorted.length + 1) {
+            throw new IllegalArgumentException("Expected " + (sorted.length + 1) + " band weights but got " + weights.length);
+        }
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Band weights must be positive: " + Arrays.toString(weights));
+            }
+        }
+        this.bounds = sorted;
+        this.weights = weights.clone();
+    }
+
+    /** priority가 속한 구간 인덱스 */
+    public int bandOf(int priority) {
+        int band = 0;
+        while (band < bounds.length && priority >= bounds[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    public int getCount() {
+        return weights.length;
+    }
+
+    public int getWeight(int band) {
+        return weights[band];
+    }
+
+    /** 구간에 속하는 가장 낮은 priority (구간 하한) */
+    public int getLowerPriority(int band) {
+        return band == 0 ? 0 : bounds[band - 1];
+    }
+
+    /** 구간에 속하는 가장 높은 priority. 마지막 구간은 상한이 없으므로 -1 */
+    public int getUpperPriority(int band) {
+        return band < bounds.length ? bounds[band] - 1 : -1;
+    }
+
+    /** 표시용 구간 이름 (예: "10-49", "50+") */
+    public String getLabel(int band) {
+        int upper = getUpperPriority(band);
+        if (upper < 0) {
+            return getLowerPriority(band) + "+";
+        }
+        return getLowerPriority(band) + "-" + upper;
+    }
+}
@@ -0,0 +1,383 @@
+package com.stresstest.queue;
+
+import com.stresstest.metrics.LatencyHistogram;
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.queue.limit.ConcurrencyLimiter;
+import com.stresstest.queue.limit.LimiterSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+/**
+ * 우선순위 기반의 수강 신청 대기열.
+ * - priority 값이 낮을수록 높은 우선순위로 처리된다.
+ * - 동시 처리 상한을 두어 처리량과 지연을 균형화한다.
+ * - 상한은 전역 리미터와 강좌별 리미터가 함께 결정한다. 강좌 한도에 걸린 요청은
+ *   강좌별 보류 큐로 옮겨 두었다가 해당 강좌의 슬롯이 반환될 때 대기열로 되돌린다.
+ *   장바구니는 담긴 모든 강좌의 슬롯을 함께 점유/반환한다.
+ * - 응답 기한이 지난 요청은 꺼내는 시점에 버려 DB 트랜잭션을 낭비하지 않는다.
+ * - 처리 순서는 RequestScheduler가 결정한다(strict / aging / wfq). priority 구간별로
+ *   대기 시간 분포와 처리 몫을 집계하여 낮은 우선순위의 꼬리 지연을 관찰할 수 있게 한다.
+ */
+public class PriorityEnrollmentQueue {
+    /** 리미터 설정 및 생성 */
+    private final LimiterSettings limiterSettings;
+    /** 스케줄링 설정 및 생성 */
+    private final SchedulingSettings schedulingSettings;
+    /** 처리 순서를 결정하는 대기열 */
+    private RequestScheduler queue;
+    /** priority 구간별 대기 지표 */
+    private BandStats[] bandStats;
+    /** 서버 전체 동시 처리 리미터 */
+    private ConcurrencyLimiter globalLimiter;
+    /** 강좌별 처리 상태 */
+    private final ConcurrentHashMap<Long, CourseState> courses = new ConcurrentHashMap<>();
+    /** 현재 처리 중인 요청 수. */
+    private final AtomicInteger currentProcessing = new AtomicInteger(0);
+    /** 강좌 한도로 보류 중인 요청 수 */
+    private final AtomicInteger deferredCount = new AtomicInteger(0);
+    /** 지연 EMA(ms) */
+    private final AtomicReference<Double> emaLatencyMs = new AtomicReference<>(0.0);
+    /** 처리된 요청 수 */
+    private final AtomicLong processedCount = new AtomicLong(0);
+    /** 기한 만료로 버려진 요청 수 */
+    private final AtomicLong expiredCount = new AtomicLong(0);
+
+    public PriorityEnrollmentQueue(LimiterSettings limiterSettings, SchedulingSettings schedulingSettings) {
+        this.limiterSettings = limiterSettings;
+        this.schedulingSettings = schedulingSettings;
+    }
+
+    /** 초기화 */
+    @PostConstruct
+    void init() {
+        globalLimiter = limiterSettings.createGlobalLimiter();
+        queue = schedulingSettings.createScheduler();
+        bandStats = new BandStats[schedulingSettings.getBands().getCount()];
+        for (int i = 0; i < bandStats.length; i++) {
+            bandStats[i] = new BandStats();
+        }
+        log.info("PriorityEnrollmentQueue adaptive init: algorithm={}, initialLimit={}, perCourse={}",
+                globalLimiter.getAlgorithm(), globalLimiter.getLimit(), limiterSettings.isPerCourse());
+    }
+    
+    /**
+     * 신청 요청을 큐에 추가한다.
+     */
+    public void addRequest(EnrollmentRequest request) {
+        request.markEnqueued(System.nanoTime());
+        bandOf(request).queued.incrementAndGet();
+        queue.offer(request);
+        log.info("Request added to queue: userId={}, courseId={}, priority={}, queueSize={}", 
+                request.getUserId(), request.getCourseId(), request.getPriority(), queue.size());
+    }
+    
+    /**
+     * 동시 처리 한도 내에서 요청 하나를 꺼내 처리 슬롯을 점유한다.
+     * - 전역 슬롯을 먼저 예약(증가 후 검사)하여 검사와 점유 사이의 경쟁을 없앤다.
+     * - 강좌 한도에 걸린 요청은 보류 큐로 옮기고 다음 요청을 본다.
+     * - 기한이 지난 요청은 버리고 수만 센다.
+     *
+     * @return 처리할 요청 또는 null(한도 초과/빈 큐)
+     */
+    public EnrollmentRequest pollRequest() {
+        int limit = globalLimiter.getLimit();
+        if (currentProcessing.incrementAndGet() > limit) {
+            currentProcessing.decrementAndGet();
+            log.debug("Max concurrent requests reached: {}", limit);
+            return null;
+        }
+        
+        EnrollmentRequest request;
+        long nowEpochMs = System.currentTimeMillis();
+        while ((request = queue.poll()) != null) {
+            if (request.isExpired(nowEpochMs)) {
+                expiredCount.incrementAndGet();
+                BandStats band = bandOf(request);
+                band.queued.decrementAndGet();
+                band.expired.incrementAndGet();
+                request.onExpired();
+                log.debug("Expired request dropped: userId={}, courseId={}, deadline={}",
+                        request.getUserId(), request.getCourseId(), request.getDeadlineEpochMs());
+                continue;
+            }
+            CourseState blocked = acquireCourses(request);
+            if (blocked == null) {
+                log.debug("Request polled from queue: userId={}, currentProcessing={}", 
+                        request.getUserId(), currentProcessing.get());
+                return dequeued(request);
+            }
+            blocked.deferred.offer(request);
+            deferredCount.incrementAndGet();
+            // 보류와 슬롯 반환이 엇갈려 보류 요청이 고립되지 않도록 한 번 더 확인
+            // (그새 슬롯이 비었으면 보류 요청 하나를 대기열로 되돌려 이 루프에서 다시 본다)
+            if (blocked.tryAcquire()) {
+                releaseCourse(blocked);
+            }
+        }
+        currentProcessing.decrementAndGet();
+        return null;
+    }
+    
+    /**
+     * 처리 완료 후 슬롯을 반환한다.
+     * 해당 강좌에 보류된 요청이 있으면 하나를 대기열로 되돌린다.
+     */
+    public void releaseSlot(EnrollmentRequest request) {
+        for (Long courseId : courseIdsOf(request)) {
+            releaseCourse(courseState(courseId));
+        }
+        int current = currentProcessing.decrementAndGet();
+        log.debug("Slot released, currentProcessing={}", current);
+    }
+    
+    /**
+     * 처리 결과를 피드백하여 전역/강좌 리미터의 동시 처리 한도를 적응적으로 조절.
+     */
+    public void onProcessed(EnrollmentRequest request, long durationNanos, boolean success) {
+        // 처리된 요청 수 증가
+        processedCount.incrementAndGet();
+        double durationMs = durationNanos / 1_000_000.0;
+        // 지연 EMA(ms) 업데이트
+        emaLatencyMs.updateAndGet(prev -> {
+            double alpha = 0.2; // 지연 EMA(ms) 가중치
+            double base; // 지연 EMA(ms) 기준값
+            if (prev == null) {
+                base = durationMs; // 첫 번째 값은 현재 지연 시간으로 초기화
+            } else {
+                base = prev; // 이후 값은 이전 지연 EMA(ms) 값으로 초기화
+            }
+            return base + alpha * (durationMs - base); // 새롭게 지연 EMA(ms) 계산
+        });
+        int queued = getQueueSize();
+        globalLimiter.onSample(durationNanos, currentProcessing.get(), queued, success);
+        for (Long courseId : courseIdsOf(request)) {
+            CourseState course = courseState(courseId);
+            if (course.limiter != null) {
+                course.limiter.onSample(durationNanos, course.inflight.get(), course.deferred.size(), success);
+            }
+        }
+    }
+
+    /**
+     * 요청이 닿는 모든 강좌의 슬롯을 점유한다.
+     * 한 강좌라도 한도에 걸리면 앞서 점유한 슬롯을 되돌리고 걸린 강좌를 반환한다.
+     *
+     * @return null(모두 점유) 또는 한도에 걸린 강좌
+     */
+    private CourseState acquireCourses(EnrollmentRequest request) {
+        List<Long> courseIds = courseIdsOf(request);
+        for (int i = 0; i < courseIds.size(); i++) {
+            CourseState course = courseState(courseIds.get(i));
+            if (!course.tryAcquire()) {
+                for (int j = 0; j < i; j++) {
+                    releaseCourse(courseState(courseIds.get(j)));
+                }
+                return course;
+            }
+        }
+        return null;
+    }
+
+    /** 강좌 슬롯 하나를 반환하고, 보류된 요청이 있으면 하나를 대기열로 되돌린다. */
+    private void releaseCourse(CourseState course) {
+        course.inflight.decrementAndGet();
+        EnrollmentRequest deferred = course.deferred.poll();
+        if (deferred != null) {
+            deferredCount.decrementAndGet();
+            queue.offer(deferred);
+        }
+    }
+
+    /** 요청이 닿는 강좌 목록 (장바구니는 담긴 강좌 전체, 오름차순) */
+    private static List<Long> courseIdsOf(EnrollmentRequest request) {
+        if (request instanceof CartEnrollmentRequest cart) {
+            return cart.getCourseIds();
+        }
+        return List.of(request.getCourseId());
+    }
+
+    /** 처리 대상으로 꺼낸 요청의 구간 대기 지표를 기록 */
+    private EnrollmentRequest dequeued(EnrollmentRequest request) {
+        BandStats band = bandOf(request);
+        band.queued.decrementAndGet();
+        band.served.incrementAndGet();
+        band.wait.record((System.nanoTime() - request.getEnqueuedAtNanos()) / 1_000L);
+        return request;
+    }
+
+    private BandStats bandOf(EnrollmentRequest request) {
+        return bandStats[schedulingSettings.getBands().bandOf(request.getPriority())];
+    }
+
+    private CourseState courseState(Long courseId) {
+        return courses.computeIfAbsent(courseId, id -> new CourseState(
+                limiterSettings.isPerCourse() ? limiterSettings.createCourseLimiter() : null,
+                schedulingSettings.createScheduler()));
+    }
+    
+    /** 현재 큐 크기를 반환한다. (강좌 한도로 보류된 요청 포함) */
+    public int getQueueSize() {
+        return queue.size() + deferredCount.get();
+    }
+    
+    /** 현재 처리 중인 요청 수를 반환한다. */
+    public int getCurrentProcessing() {
+        return currentProcessing.get();
+    }
+    
+    /** 동시 처리 최대값을 설정한다. */
+    public void setMaxConcurrentRequests(int max) {
+        globalLimiter.setLimit(max);
+        log.info("Max concurrent requests updated to: {}", globalLimiter.getLimit());
+    }
+    
+    /** 동시 처리 최대값을 조회한다. */
+    public int getMaxConcurrentRequests() {
+        return globalLimiter.getLimit();
+    }
+    
+    /** 지표 확인용, 지연시간의 지수평균을 반환한다. */
+    public double getEmaLatencyMs() {
+        Double v = emaLatencyMs.get();
+        if (v == null) {
+            return 0.0;
+        }
+        return v;
+    }
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /** 기한 만료로 버려진 요청 수를 반환한다. */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /** 사용 중인 리미터 알고리즘 */
+    public String getLimiterAlgorithm() {
+        return globalLimiter.getAlgorithm();
+    }
+
+    /** 리미터의 평활 RTT 추정값(ms) */
+    public double getEstimatedRttMs() {
+        return globalLimiter.getEstimatedRttMs();
+    }
+
+    /** 리미터가 관측한 최소 RTT(ms) */
+    public double getMinRttMs() {
+        return globalLimiter.getMinRttMs();
+    }
+
+    /** 사용 중인 스케줄링 방식 */
+    public String getSchedulingMode() {
+        return queue.getMode();
+    }
+
+    /**
+     * priority 구간별 대기 수, 처리 수/몫, 대기 시간 분포(ms) 스냅샷
+     */
+    public List<Map<String, Object>> getBandStats() {
+        PriorityBands bands = schedulingSettings.getBands();
+        long totalServed = 0;
+        for (BandStats band : bandStats) {
+            totalServed += band.served.get();
+        }
+        List<Map<String, Object>> snapshot = new ArrayList<>();
+        for (int i = 0; i < bandStats.length; i++) {
+            BandStats band = bandStats[i];
+            long served = band.served.get();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("band", bands.getLabel(i));
+            entry.put("weight", bands.getWeight(i));
+            entry.put("queued", band.queued.get());
+            entry.put("served", served);
+            entry.put("expired", band.expired.get());
+            entry.put("share", totalServed == 0 ? 0.0 : (double) served / totalServed);
+            entry.put("waitP50Ms", band.wait.percentile(50) / 1000.0);
+            entry.put("waitP99Ms", band.wait.percentile(99) / 1000.0);
+            entry.put("waitMaxMs", band.wait.getMaxMicros() / 1000.0);
+            Long boundMs = schedulingSettings.getAgingBoundMs(i);
+            if (boundMs != null) {
+                entry.put("agingBoundMs", boundMs);
+            }
+            snapshot.add(entry);
+        }
+        return snapshot;
+    }
+
+    /** 구간별 대기 지표 초기화 (벤치마크 구간 분리용) */
+    public void resetBandStats() {
+        for (BandStats band : bandStats) {
+            band.served.set(0);
+            band.expired.set(0);
+            band.wait.reset();
+        }
+    }
+
+    /** 강좌별 한도/처리 중/보류 수 스냅샷 */
+    public Map<Long, Map<String, Object>> getCourseLimits() {
+        Map<Long, Map<String, Object>> snapshot = new LinkedHashMap<>();
+        courses.forEach((courseId, course) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("inflight", course.inflight.get());
+            entry.put("deferred", course.deferred.size());
+            if (course.limiter != null) {
+                entry.put("limit", course.limiter.getLimit());
+                entry.put("estimatedRttMs", course.limiter.getEstimatedRttMs());
+            }
+            snapshot.put(courseId, entry);
+        });
+        return snapshot;
+    }
+
+    /**
+     * 강좌 단위 처리 상태
+     * - limiter 가 null 이면 강좌 한도 없이 전역 한도만 적용
+     */
+    private static final class CourseState {
+        private final ConcurrencyLimiter limiter;
+        private final AtomicInteger inflight = new AtomicInteger(0);
+        /** 강좌 한도로 보류된 요청. 대기열과 같은 스케줄링 방식으로 되돌린다 */
+        private final RequestScheduler deferred;
+
+        private CourseState(ConcurrencyLimiter limiter, RequestScheduler deferred) {
+            this.limiter = limiter;
+            this.deferred = deferred;
+        }
+
+        /** 강좌 한도 내이면 슬롯을 점유 */
+        private boolean tryAcquire() {
+            if (limiter == null) {
+                inflight.incrementAndGet();
+                return true;
+            }
+            if (inflight.incrementAndGet() > limiter.getLimit()) {
+                inflight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** priority 구간 단위 대기 지표 */
+    private static final class BandStats {
+        private final AtomicInteger queued = new AtomicInteger(0);
+        private final AtomicLong served = new AtomicLong(0);
+        private final AtomicLong expired = new AtomicLong(0);
+        /** 적재부터 처리 시작까지의 대기 시간(us) */
+        private final LatencyHistogram wait = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,32 @@
+package com.stresstest.queue;
+
+import com.stresstest.model.EnrollmentRequest;
+
+import java.util.Comparator;
+
+/**
+ * 대기 중인 신청 요청의 처리 순서를 결정하는 스케줄러
+ * - 여러 스레드에서 동시에 호출되므로 구현체는 스레드-세이프해야 한다.
+ */
+public interface RequestScheduler {
+    /** priority 오름차순, 같은 priority 안에서는 먼저 들어온 순서 */
+    Comparator<EnrollmentRequest> PRIORITY_ORDER = Comparator
+            .comparingInt(EnrollmentRequest::getPriority)
+            .thenComparingLong(EnrollmentRequest::getEnqueuedAtNanos);
+
+    /** 요청을 적재 */
+    void offer(EnrollmentRequest request);
+
+    /**
+     * 다음에 처리할 요청을 꺼낸다.
+     *
+     * @return 요청 또는 null(빈 큐)
+     */
+    EnrollmentRequest poll();
+
+    /** 대기 요청 수 */
+    int size();
+
+    /** 스케줄링 방식 이름 */
+    String getMode();
+}
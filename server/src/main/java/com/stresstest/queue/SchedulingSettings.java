@@ -0,0 +1,73 @@
+package com.stresstest.queue;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+/**
+ * 대기열 스케줄링 설정과 생성
+ * - queue.scheduling.mode 로 strict / aging / wfq 중 하나를 선택한다.
+ * - 구간(bands)과 가중치(weights)는 모든 모드에서 구간별 대기 지표 집계에 사용된다.
+ */
+public class SchedulingSettings {
+    /** 스케줄링 방식 */
+    @Value("${queue.scheduling.mode:strict}")
+    private String mode;
+    /** 구간 경계 priority 목록 */
+    @Value("${queue.scheduling.bands:10,50}")
+    private int[] bandBounds;
+    /** 구간별 가중치 (wfq) */
+    @Value("${queue.scheduling.weights:8,3,1}")
+    private int[] bandWeights;
+    /** priority 1당 선행 시간(ms) (aging) */
+    @Value("${queue.scheduling.agingStepMs:20}")
+    private long agingStepMs;
+
+    private PriorityBands bands;
+
+    @PostConstruct
+    void init() {
+        mode = mode.trim().toLowerCase(Locale.ROOT);
+        if (!mode.equals("strict") && !mode.equals("aging") && !mode.equals("wfq")) {
+            throw new IllegalStateException("Unknown queue.scheduling.mode: " + mode);
+        }
+        bands = new PriorityBands(bandBounds, bandWeights);
+        log.info("Queue scheduling: mode={}, bands={}, weights={}, agingStepMs={}",
+                mode, Arrays.toString(bandBounds), Arrays.toString(bandWeights), agingStepMs);
+    }
+
+    /** 설정된 방식의 스케줄러 생성 */
+    public RequestScheduler createScheduler() {
+        return switch (mode) {
+            case "aging" -> new AgingPriorityScheduler(TimeUnit.MILLISECONDS.toNanos(agingStepMs));
+            case "wfq" -> new WeightedFairScheduler(bands);
+            default -> new StrictPriorityScheduler();
+        };
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public PriorityBands getBands() {
+        return bands;
+    }
+
+    /**
+     * aging 모드에서 구간의 대기 시간 선행 상한(ms). 다른 모드이거나 상한 없는 구간이면 null
+     */
+    public Long getAgingBoundMs(int band) {
+        int upper = bands.getUpperPriority(band);
+        if (!mode.equals("aging") || upper < 0) {
+            return null;
+        }
+        return upper * agingStepMs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.stresstest.queue;
+
+import com.stresstest.model.EnrollmentRequest;
+
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * 엄격한 우선순위 스케줄러 (기존 방식)
+ * - 항상 priority가 가장 낮은 요청부터 꺼낸다.
+ * - 높은 우선순위 요청이 계속 들어오면 낮은 우선순위 요청은 무기한 대기할 수 있다.
+ */
+class StrictPriorityScheduler implements RequestScheduler {
+    private final PriorityBlockingQueue<EnrollmentRequest> queue =
+            new PriorityBlockingQueue<>(10000, PRIORITY_ORDER);
+
+    @Override
+    public void offer(EnrollmentRequest request) {
+        queue.offer(request);
+    }
+
+    @Override
+    public EnrollmentRequest poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public String getMode() {
+        return "strict";
+    }
+}
@@ -0,0 +1,74 @@
+package com.stresstest.queue;
+
+import com.stresstest.model.EnrollmentRequest;
+
+import java.util.PriorityQueue;
+
+/**
+ * 우선순위 구간(band) 간 가중 공정 큐잉 스케줄러
+ * - 구간마다 별도 큐를 두고, stride 스케줄링으로 구간을 고른다.
+ *   (pass 값이 가장 작은 구간을 선택하고 pass += 1/weight)
+ * - 대기 중인 구간들은 가중치 비율만큼 처리 기회를 보장받으므로 낮은 우선순위 구간도 굶지 않는다.
+ * - 비어 있던 구간이 다시 채워지면 pass를 현재 가상 시각으로 끌어올려, 쉬는 동안 쌓인 몫으로
+ *   다른 구간을 밀어내지 못하게 한다.
+ */
+class WeightedFairScheduler implements RequestScheduler {
+    private final PriorityBands bands;
+    private final PriorityQueue<EnrollmentRequest>[] queues;
+    private final double[] stride;
+    private final double[] pass;
+    /** 마지막으로 선택된 구간의 pass */
+    private double virtualTime;
+    /** 전체 대기 수 (락 없이 읽기 위해 별도 유지) */
+    private volatile int size;
+
+    @SuppressWarnings("unchecked")
+    WeightedFairScheduler(PriorityBands bands) {
+        this.bands = bands;
+        int count = bands.getCount();
+        this.queues = new PriorityQueue[count];
+        this.stride = new double[count];
+        this.pass = new double[count];
+        for (int i = 0; i < count; i++) {
+            queues[i] = new PriorityQueue<>(PRIORITY_ORDER);
+            stride[i] = 1.0 / bands.getWeight(i);
+        }
+    }
+
+    @Override
+    public synchronized void offer(EnrollmentRequest request) {
+        int band = bands.bandOf(request.getPriority());
+        if (queues[band].isEmpty()) {
+            pass[band] = Math.max(pass[band], virtualTime);
+        }
+        queues[band].offer(request);
+        size++;
+    }
+
+    @Override
+    public synchronized EnrollmentRequest poll() {
+        int selected = -1;
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty() && (selected < 0 || pass[i] < pass[selected])) {
+                selected = i;
+            }
+        }
+        if (selected < 0) {
+            return null;
+        }
+        virtualTime = pass[selected];
+        pass[selected] += stride[selected];
+        size--;
+        return queues[selected].poll();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getMode() {
+        return "wfq";
+    }
+}
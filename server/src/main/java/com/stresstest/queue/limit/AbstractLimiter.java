@@ -0,0 +1,87 @@
+package com.stresstest.queue.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리미터 공통 상태
+ * - 한도는 double 추정값으로 보관하고 정수로 내림하여 노출한다.
+ * - RTT는 지수평균으로 평활화하여 단일 샘플에 반응해 한도가 출렁이지 않게 한다.
+ * - 최소 RTT는 주기적으로 재측정하여 부하 없는 기준 지연의 변화를 따라간다.
+ */
+abstract class AbstractLimiter implements ConcurrencyLimiter {
+    /** RTT 지수평균 가중치 */
+    private static final double RTT_ALPHA = 0.2;
+
+    protected final LimiterSettings settings;
+    protected final int minLimit;
+    protected final int maxLimit;
+    /** 한도 추정값 */
+    protected final AtomicDouble estimatedLimit;
+    /** 평활화된 RTT(ns) */
+    private final AtomicDouble smoothedRttNanos = new AtomicDouble(0.0);
+    /** 최소 RTT(ns) */
+    private final AtomicLong minRttNanos = new AtomicLong(Long.MAX_VALUE);
+    /** 누적 샘플 수 */
+    private final AtomicLong sampleCount = new AtomicLong(0);
+
+    protected AbstractLimiter(LimiterSettings settings, int minLimit, int maxLimit) {
+        this.settings = settings;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.estimatedLimit = new AtomicDouble(this.minLimit);
+    }
+
+    @Override
+    public final void onSample(long rttNanos, int inflight, int queued, boolean success) {
+        long n = sampleCount.incrementAndGet();
+        double smoothed = smoothedRttNanos.updateAndGet(prev -> prev == 0.0 ? rttNanos : prev + RTT_ALPHA * (rttNanos - prev));
+        long minRtt;
+        if (n % settings.getMinRttResetSamples() == 0) {
+            // 기준 지연 재측정: 현재 평활 RTT에서 다시 최소값을 찾아간다
+            minRtt = (long) smoothed;
+            minRttNanos.set(minRtt);
+        } else {
+            minRtt = minRttNanos.accumulateAndGet(Math.max(1L, rttNanos), Math::min);
+        }
+        update(rttNanos, Math.max(1.0, smoothed), minRtt, inflight, queued, success);
+    }
+
+    /**
+     * 알고리즘별 한도 갱신
+     *
+     * @param rttNanos         이번 샘플 RTT(ns)
+     * @param smoothedRttNanos 평활화된 RTT(ns)
+     * @param minRttNanos      최소 RTT(ns)
+     */
+    protected abstract void update(long rttNanos, double smoothedRttNanos, long minRttNanos,
+                                   int inflight, int queued, boolean success);
+
+    /** 한도 범위로 제한 */
+    protected double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) Math.floor(estimatedLimit.get());
+    }
+
+    @Override
+    public void setLimit(int limit) {
+        estimatedLimit.set(clamp(limit));
+    }
+
+    @Override
+    public double getEstimatedRttMs() {
+        return smoothedRttNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public double getMinRttMs() {
+        long min = minRttNanos.get();
+        if (min == Long.MAX_VALUE) {
+            return 0.0;
+        }
+        return min / 1_000_000.0;
+    }
+}
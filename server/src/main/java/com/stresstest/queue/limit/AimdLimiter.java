@@ -0,0 +1,64 @@
+package com.stresstest.queue.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가산 증가 / 승산 감소(AIMD) 리미터
+ * - 평활 RTT가 목표 이내이고 한도를 실제로 활용 중일 때 일정 성공마다 +1
+ * - 실패 또는 평활 RTT가 목표의 2배를 넘으면 감소 비율만큼 축소
+ * - 축소는 한 RTT 동안 한 번만 적용하여 동시에 도착한 느린 샘플들이 한도를 연쇄적으로 깎지 않게 한다.
+ */
+class AimdLimiter extends AbstractLimiter {
+    /** 마지막 증가 이후 성공 수 */
+    private final AtomicInteger successesSinceIncrease = new AtomicInteger(0);
+    /** 마지막 축소 시각(ns) */
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+
+    AimdLimiter(LimiterSettings settings, int minLimit, int maxLimit) {
+        super(settings, minLimit, maxLimit);
+    }
+
+    @Override
+    protected void update(long rttNanos, double smoothedRttNanos, long minRttNanos,
+                          int inflight, int queued, boolean success) {
+        double targetNanos = settings.getTargetLatencyMs() * 1_000_000.0;
+        if (!success || smoothedRttNanos > targetNanos * 2) {
+            decrease(smoothedRttNanos);
+            return;
+        }
+        boolean fastEnough = smoothedRttNanos <= targetNanos;
+        boolean largeBacklog = queued >= settings.getBacklogBoostThreshold();
+        // 느리면서 백로그도 없거나, 한도의 절반도 쓰지 않고 있으면 늘릴 근거가 없다
+        if ((!fastEnough && !largeBacklog) || inflight * 2 < getLimit()) {
+            return;
+        }
+        // 백로그가 크면 더 적은 성공으로도 증가
+        int threshold = largeBacklog
+                ? 5
+                : Math.max(5, settings.getSuccessesForIncrease());
+        int succ = successesSinceIncrease.incrementAndGet();
+        // 임계값에 도달한 스레드 하나만 증가를 수행
+        if (succ >= threshold && successesSinceIncrease.compareAndSet(succ, 0)) {
+            estimatedLimit.updateAndGet(limit -> clamp(limit + 1));
+        }
+    }
+
+    private void decrease(double smoothedRttNanos) {
+        long now = System.nanoTime();
+        long last = lastDecreaseNanos.get();
+        if (now - last < (long) smoothedRttNanos) {
+            return;
+        }
+        if (lastDecreaseNanos.compareAndSet(last, now)) {
+            successesSinceIncrease.set(0);
+            double ratio = settings.getDecreaseRatio();
+            estimatedLimit.updateAndGet(limit -> clamp(Math.floor(limit * ratio)));
+        }
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "aimd";
+    }
+}
@@ -0,0 +1,35 @@
+package com.stresstest.queue.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * double 값을 CAS로 갱신하기 위한 보조 클래스
+ * - AtomicReference<Double>과 달리 박싱 없이 비트 단위로 비교한다.
+ */
+final class AtomicDouble {
+    private final AtomicLong bits;
+
+    AtomicDouble(double initial) {
+        this.bits = new AtomicLong(Double.doubleToRawLongBits(initial));
+    }
+
+    double get() {
+        return Double.longBitsToDouble(bits.get());
+    }
+
+    void set(double value) {
+        bits.set(Double.doubleToRawLongBits(value));
+    }
+
+    /** 경합 시 재시도하므로 updater는 부수효과가 없어야 한다. */
+    double updateAndGet(DoubleUnaryOperator updater) {
+        while (true) {
+            long prevBits = bits.get();
+            double next = updater.applyAsDouble(Double.longBitsToDouble(prevBits));
+            if (bits.compareAndSet(prevBits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+        }
+    }
+}
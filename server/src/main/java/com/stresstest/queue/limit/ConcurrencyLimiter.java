@@ -0,0 +1,33 @@
+package com.stresstest.queue.limit;
+
+/**
+ * 동시 처리 한도를 결정하는 적응형 리미터
+ * - 처리 완료 샘플(RTT, 동시 처리 수, 성공 여부)을 받아 한도를 조절한다.
+ * - 구현체는 여러 처리 스레드에서 동시에 호출되므로 lock-free로 상태를 갱신해야 한다.
+ */
+public interface ConcurrencyLimiter {
+    /**
+     * 처리 완료 샘플을 반영한다.
+     *
+     * @param rttNanos 처리 소요 시간(ns)
+     * @param inflight 샘플 시점의 동시 처리 수
+     * @param queued   샘플 시점의 대기 요청 수
+     * @param success  처리 성공 여부
+     */
+    void onSample(long rttNanos, int inflight, int queued, boolean success);
+
+    /** 현재 동시 처리 한도 */
+    int getLimit();
+
+    /** 한도를 수동으로 지정한다. 이후 샘플에 따라 다시 조절된다. */
+    void setLimit(int limit);
+
+    /** 평활화된 RTT 추정값(ms) */
+    double getEstimatedRttMs();
+
+    /** 관측된 최소 RTT(ms). 아직 샘플이 없으면 0 */
+    double getMinRttMs();
+
+    /** 알고리즘 이름 */
+    String getAlgorithm();
+}
@@ -0,0 +1,41 @@
+package com.stresstest.queue.limit;
+
+/**
+ * 최소 RTT 대비 평활 RTT의 기울기로 한도를 조절하는 리미터
+ * - gradient = clamp(tolerance * minRtt / smoothedRtt, 0.5, 1.0)
+ * - newLimit = limit * gradient + sqrt(limit) (대기 여유분)
+ * - 새 한도는 smoothing 비율만큼만 반영하여 급격한 변화를 막는다.
+ * 지연이 기준 대비 늘어나는 만큼 비례적으로 한도를 줄이므로, DB가 느려지면 목표 지연 설정 없이도 물러선다.
+ */
+class GradientLimiter extends AbstractLimiter {
+
+    GradientLimiter(LimiterSettings settings, int minLimit, int maxLimit) {
+        super(settings, minLimit, maxLimit);
+    }
+
+    @Override
+    protected void update(long rttNanos, double smoothedRttNanos, long minRttNanos,
+                          int inflight, int queued, boolean success) {
+        double tolerance = settings.getGradientTolerance();
+        double smoothing = settings.getGradientSmoothing();
+        estimatedLimit.updateAndGet(limit -> {
+            double gradient;
+            if (!success) {
+                gradient = 0.5;
+            } else {
+                gradient = Math.max(0.5, Math.min(1.0, tolerance * minRttNanos / smoothedRttNanos));
+            }
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            // 한도를 다 쓰지 않는 상태에서는 늘리지 않는다
+            if (newLimit > limit && inflight * 2 < limit) {
+                return limit;
+            }
+            return clamp(limit * (1 - smoothing) + newLimit * smoothing);
+        });
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "gradient";
+    }
+}
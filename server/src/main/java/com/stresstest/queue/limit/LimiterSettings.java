@@ -0,0 +1,140 @@
+package com.stresstest.queue.limit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Slf4j
+@Component
+/**
+ * 적응형 리미터 설정과 생성
+ * - queue.limiter.algorithm 으로 aimd / gradient / vegas 중 하나를 선택한다.
+ * - 전역 리미터와 강좌별 리미터는 같은 알고리즘을 쓰되 한도 범위만 다르다.
+ */
+public class LimiterSettings {
+    /** 리미터 알고리즘 */
+    @Value("${queue.limiter.algorithm:aimd}")
+    private String algorithm;
+    /** 최소 동시 처리 수 */
+    @Value("${queue.adaptive.minConcurrent:20}")
+    private int minConcurrent;
+    /** 최대 동시 처리 수 */
+    @Value("${queue.adaptive.maxConcurrent:200}")
+    private int maxConcurrent;
+    /** 목표 지연 시간(ms) */
+    @Value("${queue.adaptive.targetLatencyMs:250}")
+    private long targetLatencyMs;
+    /** 감소 비율 */
+    @Value("${queue.adaptive.decreaseRatio:0.7}")
+    private double decreaseRatio;
+    /** 증가 조건 성공 횟수 */
+    @Value("${queue.adaptive.successesForIncrease:50}")
+    private int successesForIncrease;
+    /** 백로그 증가 임계값 */
+    @Value("${queue.adaptive.backlogBoostThreshold:500}")
+    private int backlogBoostThreshold;
+    /** 강좌별 리미터 사용 여부 */
+    @Value("${queue.limiter.perCourse:true}")
+    private boolean perCourse;
+    /** 강좌별 최소 동시 처리 수 */
+    @Value("${queue.limiter.courseMinConcurrent:1}")
+    private int courseMinConcurrent;
+    /** 강좌별 최대 동시 처리 수 */
+    @Value("${queue.limiter.courseMaxConcurrent:100}")
+    private int courseMaxConcurrent;
+    /** gradient: 최소 RTT 대비 허용 배수 */
+    @Value("${queue.limiter.gradient.tolerance:1.5}")
+    private double gradientTolerance;
+    /** gradient: 새 한도 반영 비율 */
+    @Value("${queue.limiter.gradient.smoothing:0.2}")
+    private double gradientSmoothing;
+    /** vegas: 대기 추정치 하한 계수 (alpha * log10(limit)) */
+    @Value("${queue.limiter.vegas.alpha:3}")
+    private int vegasAlpha;
+    /** vegas: 대기 추정치 상한 계수 (beta * log10(limit)) */
+    @Value("${queue.limiter.vegas.beta:6}")
+    private int vegasBeta;
+    /** 최소 RTT 재측정 주기(샘플 수) */
+    @Value("${queue.limiter.minRttResetSamples:1000}")
+    private int minRttResetSamples;
+
+    @PostConstruct
+    void init() {
+        algorithm = algorithm.trim().toLowerCase(Locale.ROOT);
+        if (!algorithm.equals("aimd") && !algorithm.equals("gradient") && !algorithm.equals("vegas")) {
+            throw new IllegalStateException("Unknown queue.limiter.algorithm: " + algorithm);
+        }
+        log.info("Concurrency limiter: algorithm={}, global=[{}, {}], perCourse={}, course=[{}, {}]",
+                algorithm, minConcurrent, maxConcurrent, perCourse, courseMinConcurrent, courseMaxConcurrent);
+    }
+
+    /** 서버 전체 동시 처리 리미터 생성 */
+    public ConcurrencyLimiter createGlobalLimiter() {
+        return create(minConcurrent, maxConcurrent, minConcurrent);
+    }
+
+    /** 강좌 단위 동시 처리 리미터 생성 */
+    public ConcurrencyLimiter createCourseLimiter() {
+        return create(courseMinConcurrent, courseMaxConcurrent, Math.min(minConcurrent, courseMaxConcurrent));
+    }
+
+    private ConcurrencyLimiter create(int min, int max, int initial) {
+        ConcurrencyLimiter limiter = switch (algorithm) {
+            case "gradient" -> new GradientLimiter(this, min, max);
+            case "vegas" -> new VegasLimiter(this, min, max);
+            default -> new AimdLimiter(this, min, max);
+        };
+        limiter.setLimit(initial);
+        return limiter;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public boolean isPerCourse() {
+        return perCourse;
+    }
+
+    public long getTargetLatencyMs() {
+        return targetLatencyMs;
+    }
+
+    public double getDecreaseRatio() {
+        if (decreaseRatio <= 0 || decreaseRatio >= 1) {
+            return 0.7; // 감소 비율이 0 이하 또는 1 이상인 경우 0.7로 설정
+        }
+        return decreaseRatio;
+    }
+
+    public int getSuccessesForIncrease() {
+        return successesForIncrease;
+    }
+
+    public int getBacklogBoostThreshold() {
+        return backlogBoostThreshold;
+    }
+
+    public double getGradientTolerance() {
+        return gradientTolerance;
+    }
+
+    public double getGradientSmoothing() {
+        return gradientSmoothing;
+    }
+
+    public int getVegasAlpha() {
+        return vegasAlpha;
+    }
+
+    public int getVegasBeta() {
+        return vegasBeta;
+    }
+
+    public int getMinRttResetSamples() {
+        return Math.max(1, minRttResetSamples);
+    }
+}
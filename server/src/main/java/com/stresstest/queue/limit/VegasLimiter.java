@@ -0,0 +1,45 @@
+package com.stresstest.queue.limit;
+
+/**
+ * TCP Vegas 방식의 대기열 추정 리미터
+ * - queue = limit * (1 - minRtt / smoothedRtt) 로 DB 앞에 쌓인 요청 수를 추정
+ * - 추정치가 alpha*log10(limit) 미만이면 증가, beta*log10(limit) 초과면 감소
+ * - 실패 샘플은 혼잡 신호로 보고 감소
+ */
+class VegasLimiter extends AbstractLimiter {
+
+    VegasLimiter(LimiterSettings settings, int minLimit, int maxLimit) {
+        super(settings, minLimit, maxLimit);
+    }
+
+    @Override
+    protected void update(long rttNanos, double smoothedRttNanos, long minRttNanos,
+                          int inflight, int queued, boolean success) {
+        int alphaFactor = settings.getVegasAlpha();
+        int betaFactor = settings.getVegasBeta();
+        estimatedLimit.updateAndGet(limit -> {
+            double log = Math.max(1.0, Math.log10(limit));
+            if (!success) {
+                return clamp(limit - log);
+            }
+            // 한도를 다 쓰지 않는 상태에서는 추정이 의미가 없다
+            if (inflight * 2 < limit) {
+                return limit;
+            }
+            double queueEstimate = Math.ceil(limit * (1 - minRttNanos / smoothedRttNanos));
+            if (queueEstimate <= log) {
+                return clamp(limit + betaFactor * log);
+            } else if (queueEstimate < alphaFactor * log) {
+                return clamp(limit + log);
+            } else if (queueEstimate > betaFactor * log) {
+                return clamp(limit - log);
+            }
+            return limit;
+        });
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return "vegas";
+    }
+}
@@ -0,0 +1,43 @@
+package com.stresstest.reactive;
+
+/**
+ * reactive 프로필의 강좌 조회 결과
+ * - JPA 엔티티(Course)와 같은 JSON 형태(id, name, capacity, currentEnrollment, full)로 응답하여
+ *   두 서버 스택을 같은 k6 스크립트로 비교할 수 있게 한다.
+ */
+public class CourseRow {
+    private final Long id;
+    private final String name;
+    private final Integer capacity;
+    private final Integer currentEnrollment;
+
+    public CourseRow(Long id, String name, Integer capacity, Integer currentEnrollment) {
+        this.id = id;
+        this.name = name;
+        this.capacity = capacity;
+        this.currentEnrollment = currentEnrollment;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public Integer getCurrentEnrollment() {
+        return currentEnrollment;
+    }
+
+    /**
+     * 강좌가 정원이 찼는지 여부를 반환
+     */
+    public boolean isFull() {
+        return currentEnrollment >= capacity;
+    }
+}
@@ -0,0 +1,88 @@
+package com.stresstest.reactive;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+/**
+ * reactive 프로필의 강좌 데이터 접근
+ * - JPA CourseRepository와 같은 테이블(courses)을 R2DBC로 조회/저장한다.
+ * - ID는 같은 시퀀스(courses_seq)에서 발급한다. 시퀀스 값 하나를 그대로 쓰므로
+ *   Hibernate pooled 옵티마이저가 예약하는 구간과 겹치지 않는다.
+ */
+public class ReactiveCourseStore {
+    private final DatabaseClient db;
+
+    /** 모든 강좌 */
+    public Flux<CourseRow> findAll() {
+        return db.sql("SELECT id, name, capacity, current_enrollment FROM courses ORDER BY id")
+                .map(ReactiveCourseStore::toRow)
+                .all();
+    }
+
+    /** ID로 강좌 조회 */
+    public Mono<CourseRow> findById(Long id) {
+        return db.sql("SELECT id, name, capacity, current_enrollment FROM courses WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveCourseStore::toRow)
+                .one();
+    }
+
+    /** 강좌 생성 */
+    public Mono<CourseRow> create(String name, Integer capacity) {
+        return db.sql("SELECT nextval('courses_seq')")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> db.sql("INSERT INTO courses (id, name, capacity, current_enrollment) VALUES (:id, :name, :capacity, 0)")
+                        .bind("id", id)
+                        .bind("name", name)
+                        .bind("capacity", capacity)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(new CourseRow(id, name, capacity, 0)));
+    }
+
+    /** 강좌 수 */
+    public Mono<Long> count() {
+        return db.sql("SELECT COUNT(*) FROM courses")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * 기동 완료 후 강좌가 없으면 예시 강좌를 생성 (JPA 스택의 Application.initData와 같은 데이터)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void seedCourses() {
+        count().filter(count -> count == 0)
+                .flatMapMany(empty -> Flux.concat(
+                        create("Java Programming", 100),
+                        create("Spring Boot", 50),
+                        create("Database Design", 30)))
+                .collectList()
+                .subscribe(created -> {
+                    if (!created.isEmpty()) {
+                        log.info("Initial courses created");
+                    }
+                }, error -> log.error("Initial course creation failed: {}", error.toString()));
+    }
+
+    static CourseRow toRow(Readable row) {
+        return new CourseRow(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("capacity", Integer.class),
+                row.get("current_enrollment", Integer.class));
+    }
+}
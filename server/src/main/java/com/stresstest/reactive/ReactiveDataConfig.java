@@ -0,0 +1,31 @@
+package com.stresstest.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Configuration
+@Profile("reactive")
+/**
+ * reactive 프로필의 데이터 접근 빈 구성
+ * - 커넥션 팩토리/트랜잭션 매니저는 R2DBC 자동 구성을 사용하고,
+ *   SQL 실행기와 트랜잭션 연산자만 명시적으로 등록한다.
+ */
+public class ReactiveDataConfig {
+
+    /** 논블로킹 SQL 실행기 */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /** Mono/Flux 파이프라인에 트랜잭션 경계를 적용하는 연산자 */
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
+}
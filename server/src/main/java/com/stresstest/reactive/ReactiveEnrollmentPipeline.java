@@ -0,0 +1,114 @@
+package com.stresstest.reactive;
+
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@Profile("reactive")
+/**
+ * reactive 프로필의 큐 처리 파이프라인
+ * - 요청은 기존 우선순위 큐(PriorityEnrollmentQueue)에 적재되고, 큐의 리미터가 허용하는 만큼만 꺼내
+ *   논블로킹 처리기에 구독시킨다. 처리가 끝나면 슬롯을 반환하고 다시 꺼낸다.
+ *   → DB 쪽 동시 실행 수는 리미터 한도(= R2DBC 풀 크기 이하로 설정)로 제한되고, 나머지는 큐에서 대기한다.
+ * - 큐 대기 수가 maxPending 을 넘으면 적재를 거부하여(503) 메모리 대신 호출자에게 압력을 돌려준다.
+ * - 꺼내기는 drain 루프 하나로 직렬화한다. 여러 스레드가 동시에 drain을 요청하면
+ *   이미 실행 중인 루프가 한 번 더 돌아 처리하므로 별도 스레드/락이 필요 없다.
+ */
+public class ReactiveEnrollmentPipeline {
+    /** 큐 대기 요청 상한. 초과 시 적재 거부 */
+    @Value("${queue.reactive.maxPending:10000}")
+    private int maxPending;
+
+    private final PriorityEnrollmentQueue queue;
+    private final ReactiveEnrollmentProcessor processor;
+    private final OutcomeBroadcaster outcomeBroadcaster;
+
+    /** drain 요청 수 (0이면 실행 중인 루프 없음) */
+    private final AtomicInteger wip = new AtomicInteger(0);
+    /** 처리 중(구독 후 완료 전) 요청 수 */
+    private final AtomicInteger inflight = new AtomicInteger(0);
+    /** 용량 초과로 거부된 요청 수 */
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+
+    public ReactiveEnrollmentPipeline(PriorityEnrollmentQueue queue,
+                                      ReactiveEnrollmentProcessor processor,
+                                      OutcomeBroadcaster outcomeBroadcaster) {
+        this.queue = queue;
+        this.processor = processor;
+        this.outcomeBroadcaster = outcomeBroadcaster;
+    }
+
+    /**
+     * 요청을 큐에 적재하고 처리를 트리거
+     *
+     * @return 적재 여부 (false면 용량 초과)
+     */
+    public boolean submit(EnrollmentRequest request) {
+        if (queue.getQueueSize() >= maxPending) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+        queue.addRequest(request);
+        drain();
+        return true;
+    }
+
+    /** 리미터가 허용하는 만큼 큐에서 꺼내 처리기에 구독 */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            EnrollmentRequest request;
+            while ((request = queue.pollRequest()) != null) {
+                start(request);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void start(EnrollmentRequest request) {
+        long startNs = System.nanoTime();
+        inflight.incrementAndGet();
+        processor.processEnrollment(request)
+                .map(result -> {
+                    log.info("Enrollment processed: userId={}, success={}, message={}",
+                            request.getUserId(), result.isSuccess(), result.getMessage());
+                    outcomeBroadcaster.publish(request, request.getCourseId(), result.isSuccess(), result.getMessage());
+                    return result.isSuccess();
+                })
+                .defaultIfEmpty(false)
+                .subscribe(success -> finish(request, startNs, success),
+                        error -> finish(request, startNs, false));
+    }
+
+    /** 지표 기록, 슬롯 반환 후 다음 요청 처리 */
+    private void finish(EnrollmentRequest request, long startNs, boolean success) {
+        inflight.decrementAndGet();
+        queue.onProcessed(request, System.nanoTime() - startNs, success);
+        queue.releaseSlot(request);
+        drain();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+}
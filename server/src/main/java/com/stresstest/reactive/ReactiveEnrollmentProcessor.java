@@ -0,0 +1,119 @@
+package com.stresstest.reactive;
+
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.service.EnrollmentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@Profile("reactive")
+/**
+ * reactive 프로필의 수강 신청 처리기
+ * - JPA EnrollmentProcessor.processEnrollment와 같은 규칙/같은 SQL 효과를 R2DBC로 수행한다.
+ *   (중복 확인 → 강좌 행 SELECT ... FOR UPDATE → 정원 확인 → 인원 증가 + 등록 레코드 저장, 정원 초과 시 대기자 기록)
+ * - 트랜잭션 경계는 TransactionalOperator가 구독 단위로 적용하며, 처리 중 스레드를 점유하지 않는다.
+ */
+public class ReactiveEnrollmentProcessor {
+    private static final EnrollmentService.EnrollmentResult ALREADY_ENROLLED =
+            new EnrollmentService.EnrollmentResult(false, "Already enrolled");
+    private static final EnrollmentService.EnrollmentResult COURSE_FULL =
+            new EnrollmentService.EnrollmentResult(false, "Course is full");
+    private static final EnrollmentService.EnrollmentResult WAITLISTED =
+            new EnrollmentService.EnrollmentResult(false, "Waitlisted");
+    private static final EnrollmentService.EnrollmentResult ENROLLED =
+            new EnrollmentService.EnrollmentResult(true, "Enrollment successful");
+
+    private final DatabaseClient db;
+    private final TransactionalOperator tx;
+
+    /** 정원 초과 신청을 대기자로 등록할지 여부 */
+    @Value("${enrollment.waitlist.enabled:true}")
+    private boolean waitlistEnabled;
+
+    public ReactiveEnrollmentProcessor(DatabaseClient db, TransactionalOperator tx) {
+        this.db = db;
+        this.tx = tx;
+    }
+
+    /**
+     * 단일 신청 요청을 한 트랜잭션에서 처리. 오류는 실패 결과로 변환되어 항상 값 하나를 발행한다.
+     */
+    public Mono<EnrollmentService.EnrollmentResult> processEnrollment(EnrollmentRequest request) {
+        Mono<EnrollmentService.EnrollmentResult> work = isEnrolled(request)
+                .flatMap(enrolled -> enrolled ? Mono.just(ALREADY_ENROLLED) : lockAndEnroll(request));
+        return tx.transactional(work)
+                .doOnNext(result -> {
+                    if (result.isSuccess()) {
+                        log.info("Enrollment successful: userId={}, courseId={}", request.getUserId(), request.getCourseId());
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Error processing enrollment: userId={}, courseId={}, error={}",
+                            request.getUserId(), request.getCourseId(), e.toString());
+                    return Mono.just(new EnrollmentService.EnrollmentResult(false, "Error: " + e.getMessage()));
+                });
+    }
+
+    /** 중복 신청 확인 (ux_enrollments_user_course 인덱스) */
+    private Mono<Boolean> isEnrolled(EnrollmentRequest request) {
+        return db.sql("SELECT 1 FROM enrollments WHERE user_id = :userId AND course_id = :courseId")
+                .bind("userId", request.getUserId())
+                .bind("courseId", request.getCourseId())
+                .map(row -> 1)
+                .first()
+                .hasElement();
+    }
+
+    /** 강좌 행을 잠그고 정원을 확인한 뒤 등록 또는 대기자 기록 */
+    private Mono<EnrollmentService.EnrollmentResult> lockAndEnroll(EnrollmentRequest request) {
+        return db.sql("SELECT capacity, current_enrollment FROM courses WHERE id = :id FOR UPDATE")
+                .bind("id", request.getCourseId())
+                .map(row -> row.get("current_enrollment", Integer.class) >= row.get("capacity", Integer.class))
+                .one()
+                .switchIfEmpty(Mono.error(new RuntimeException("Course not found: " + request.getCourseId())))
+                .flatMap(full -> {
+                    if (!full) {
+                        return enroll(request);
+                    }
+                    log.warn("Course {} is full", request.getCourseId());
+                    return waitlistEnabled ? addToWaitlist(request) : Mono.just(COURSE_FULL);
+                });
+    }
+
+    private Mono<EnrollmentService.EnrollmentResult> enroll(EnrollmentRequest request) {
+        Mono<Long> increment = db.sql("UPDATE courses SET current_enrollment = current_enrollment + 1 WHERE id = :id")
+                .bind("id", request.getCourseId())
+                .fetch()
+                .rowsUpdated();
+        Mono<Long> insert = db.sql("INSERT INTO enrollments (id, user_id, course_id, enrolled_at, status) "
+                        + "VALUES (nextval('enrollments_seq'), :userId, :courseId, :enrolledAt, 'SUCCESS')")
+                .bind("userId", request.getUserId())
+                .bind("courseId", request.getCourseId())
+                .bind("enrolledAt", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated();
+        return increment.then(insert).thenReturn(ENROLLED);
+    }
+
+    /** 강좌 행 락을 잡은 상태에서 호출되므로 같은 강좌의 대기 등록과 직렬화된다. */
+    private Mono<EnrollmentService.EnrollmentResult> addToWaitlist(EnrollmentRequest request) {
+        return db.sql("INSERT INTO waitlist_entries (id, course_id, user_id, priority, created_at) "
+                        + "SELECT nextval('waitlist_entries_seq'), :courseId, :userId, :priority, :createdAt "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM waitlist_entries WHERE course_id = :courseId AND user_id = :userId)")
+                .bind("courseId", request.getCourseId())
+                .bind("userId", request.getUserId())
+                .bind("priority", request.getPriority())
+                .bind("createdAt", LocalDateTime.now())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(WAITLISTED);
+    }
+}
@@ -0,0 +1,169 @@
+package com.stresstest.reactive;
+
+import com.stresstest.model.Course;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.outcome.EnrollmentOutcome;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@Profile("reactive")
+@RequiredArgsConstructor
+/**
+ * reactive 프로필의 서버 API 컨트롤러
+ * - ServerController의 수강 신청/강좌/큐 상태 API를 같은 경로와 같은 응답 형태로 제공한다.
+ * - 요청 스레드는 큐 적재 또는 R2DBC 쿼리 구독만 하고 반환하며, 어떤 단계도 블로킹하지 않는다.
+ */
+public class ReactiveServerController {
+    private final ReactiveEnrollmentPipeline pipeline;
+    private final ReactiveCourseStore courseStore;
+    /** 우선순위 기반 신청 대기열 */
+    private final PriorityEnrollmentQueue queue;
+    /** 처리 결과 SSE 발행기 */
+    private final OutcomeBroadcaster outcomeBroadcaster;
+
+    /** 현재 서버 인스턴스가 바인딩된 포트. 응답 정보에 포함됨 */
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    /**
+     * 수강 신청 요청을 큐에 올림. 대기 요청이 상한을 넘으면 503을 반환한다.
+     */
+    @PostMapping("/enroll")
+    public Mono<ResponseEntity<Map<String, Object>>> enroll(
+            @RequestBody EnrollmentRequest request,
+            @RequestHeader(value = EnrollmentRequest.DEADLINE_HEADER, required = false) Long deadlineEpochMs) {
+        request.setDeadlineEpochMs(deadlineEpochMs);
+        request.setTicketId(outcomeBroadcaster.nextTicket());
+        boolean accepted = pipeline.submit(request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("serverPort", serverPort);
+        if (!accepted) {
+            response.put("status", "rejected");
+            response.put("message", "Queue is full");
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response));
+        }
+        response.put("status", "queued");
+        response.put("message", "Request added to queue");
+        response.put("ticketId", request.getTicketId());
+        return Mono.just(ResponseEntity.ok(response));
+    }
+
+    /**
+     * 사용자 처리 결과 스트림 (Server-Sent Events)
+     * 신청 전에 구독해 두면 처리 완료 시 결과가 푸시된다. ticket을 주면 해당 신청의 결과만 받는다.
+     */
+    @GetMapping(value = "/outcomes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EnrollmentOutcome>> streamOutcomes(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String ticket) {
+        return outcomeBroadcaster.subscribe(userId, ticket);
+    }
+    
+    /**
+     * 모든 강좌 목록을 반환
+     */
+    @GetMapping("/courses")
+    public Flux<CourseRow> getAllCourses() {
+        return courseStore.findAll();
+    }
+
+    /**
+     * ID로 강좌를 조회
+     */
+    @GetMapping("/courses/{id}")
+    public Mono<ResponseEntity<CourseRow>> getCourse(@PathVariable Long id) {
+        return courseStore.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 강좌를 생성
+     */
+    @PostMapping("/courses")
+    public Mono<ResponseEntity<CourseRow>> createCourse(@RequestBody Course course) {
+        return courseStore.create(course.getName(), course.getCapacity())
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 현재 큐 상태를 조회
+     */
+    @GetMapping("/queue/status")
+    public Mono<Map<String, Object>> getQueueStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("queueSize", queue.getQueueSize());
+        status.put("currentProcessing", queue.getCurrentProcessing());
+        status.put("maxConcurrentRequests", queue.getMaxConcurrentRequests());
+        status.put("emaLatencyMs", queue.getEmaLatencyMs());
+        status.put("processedCount", queue.getProcessedCount());
+        status.put("expiredCount", queue.getExpiredCount());
+        status.put("limiterAlgorithm", queue.getLimiterAlgorithm());
+        status.put("estimatedRttMs", queue.getEstimatedRttMs());
+        status.put("minRttMs", queue.getMinRttMs());
+        status.put("courseLimits", queue.getCourseLimits());
+        status.put("schedulingMode", queue.getSchedulingMode());
+        status.put("bands", queue.getBandStats());
+        status.put("processingMode", "reactive");
+        status.put("outcomeStream", outcomeBroadcaster.getStatus());
+        status.put("inflight", pipeline.getInflight());
+        status.put("maxPending", pipeline.getMaxPending());
+        status.put("rejectedCount", pipeline.getRejectedCount());
+        status.put("serverPort", serverPort);
+        return Mono.just(status);
+    }
+
+    /**
+     * 구간별 대기 지표를 초기화 (벤치마크 시작 전 호출)
+     */
+    @PostMapping("/queue/stats/reset")
+    public Mono<Map<String, Object>> resetQueueStats() {
+        queue.resetBandStats();
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Queue band stats reset");
+        response.put("serverPort", serverPort);
+        return Mono.just(response);
+    }
+
+    /**
+     * 동시 처리 최대값을 갱신
+     */
+    @PostMapping("/queue/max-concurrent")
+    public Mono<Map<String, Object>> setMaxConcurrent(@RequestBody Map<String, Integer> config) {
+        queue.setMaxConcurrentRequests(config.getOrDefault("max", 10));
+        Map<String, Object> response = new HashMap<>();
+        response.put("maxConcurrentRequests", queue.getMaxConcurrentRequests());
+        response.put("message", "Max concurrent requests updated");
+        return Mono.just(response);
+    }
+
+    /**
+     * 단순 헬스 체크 엔드포인트
+     */
+    @GetMapping("/health")
+    public Mono<Map<String, Object>> health() {
+        Map<String, Object> health = new HashMap<>();
+        health.put("status", "UP");
+        health.put("serverPort", serverPort);
+        health.put("stack", "reactive");
+        return Mono.just(health);
+    }
+}
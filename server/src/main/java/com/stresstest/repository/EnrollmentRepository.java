@@ -0,0 +1,46 @@
+package com.stresstest.repository;
+
+import com.stresstest.model.Enrollment;
+import com.stresstest.model.EnrollmentView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+/**
+ * 수강 등록 엔티티 접근 저장소
+ */
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+    /**
+     * 사용자 ID로 등록 내역을 조회
+     */
+    List<Enrollment> findByUserId(Long userId);
+    /**
+     * 사용자가 특정 강좌에 이미 등록했는지 여부를 반환
+     */
+    boolean existsByUserIdAndCourseId(Long userId, Long courseId);
+    /**
+     * 사용자의 특정 강좌 등록 레코드를 조회 (취소용)
+     */
+    Optional<Enrollment> findByUserIdAndCourseId(Long userId, Long courseId);
+    /**
+     * 사용자 등록 내역을 키셋 페이지 단위로 조회
+     * - 강좌를 조인한 생성자 프로젝션으로 한 번의 쿼리에 강좌명까지 가져온다(N+1 없음).
+     * - id > afterId 조건과 (user_id, id) 인덱스로 페이지 깊이와 무관하게 일정한 비용
+     *
+     * @param afterId  이전 페이지의 마지막 등록 ID (첫 페이지는 0)
+     * @param pageable 조회 건수 제한 (offset은 항상 0)
+     */
+    @Query("SELECT new com.stresstest.model.EnrollmentView(e.id, e.userId, c.id, c.name, e.enrolledAt, e.status) "
+            + "FROM Enrollment e JOIN e.course c "
+            + "WHERE e.userId = :userId AND e.id > :afterId "
+            + "ORDER BY e.id")
+    List<EnrollmentView> findViewsByUserId(@Param("userId") Long userId,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+}
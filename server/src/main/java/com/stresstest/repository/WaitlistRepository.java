@@ -0,0 +1,35 @@
+package com.stresstest.repository;
+
+import com.stresstest.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+/**
+ * 강좌 대기자 접근 저장소
+ * - 대기자 추가/조회/승격 대상 선택은 강좌 행 락을 잡은 트랜잭션 안에서 호출된다.
+ */
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+    /**
+     * 사용자가 해당 강좌에 이미 대기 중인지 여부
+     */
+    boolean existsByCourseIdAndUserId(Long courseId, Long userId);
+    /**
+     * 사용자의 대기 항목 조회
+     */
+    Optional<WaitlistEntry> findByCourseIdAndUserId(Long courseId, Long userId);
+    /**
+     * 다음 승격 대상 (priority, id 순 첫 항목)
+     */
+    Optional<WaitlistEntry> findFirstByCourseIdOrderByPriorityAscIdAsc(Long courseId);
+    /**
+     * 대기 순번 계산용: 해당 항목보다 앞선 대기자 수
+     */
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.courseId = :courseId "
+            + "AND (w.priority < :priority OR (w.priority = :priority AND w.id < :id))")
+    long countAhead(@Param("courseId") Long courseId, @Param("priority") Integer priority, @Param("id") Long id);
+}
@@ -0,0 +1,249 @@
+package com.stresstest.service;
+
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import com.stresstest.queue.RequestScheduler;
+import com.stresstest.queue.SchedulingSettings;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+/**
+ * 강좌 단위 단일 작성자(single-writer) 레인 실행기
+ * - 요청은 강좌별 메일박스(우선순위 스케줄러)에 쌓인다.
+ * - 고정 개수의 레인 스레드가 준비된 강좌를 하나씩 가져가 그 강좌의 요청을 순차 처리한다.
+ *   한 강좌는 한 시점에 하나의 레인만 소유하므로 같은 강좌 행 락을 두고 DB 커넥션끼리 경쟁하지 않는다.
+ * - 레인은 강좌당 최대 quantum 건만 처리하고 강좌를 준비 큐 뒤로 돌려보내므로,
+ *   인기 강좌가 레인을 독점하지 못하고 한산한 강좌도 차례가 돌아온다.
+ * - 동시에 사용하는 DB 커넥션 수는 레인 수로 제한된다.
+ */
+public class CoursePartitionedExecutor {
+    /** 처리 방식 (pooled: 기존 스레드 풀 / partitioned: 강좌별 레인) */
+    @Value("${queue.processing.mode:pooled}")
+    private String mode;
+    /** 레인(처리 스레드) 수. DB 커넥션 풀 크기 이하로 설정 */
+    @Value("${queue.processing.lanes:8}")
+    private int laneCount;
+    /** 레인이 강좌 하나를 연속으로 처리하는 최대 건수 */
+    @Value("${queue.processing.quantum:32}")
+    private int quantum;
+
+    private final EnrollmentProcessor enrollmentProcessor;
+    /** 처리 지표(EMA/처리 수/리미터 샘플) 기록용 */
+    private final PriorityEnrollmentQueue queue;
+    private final SchedulingSettings schedulingSettings;
+    private final OutcomeBroadcaster outcomeBroadcaster;
+
+    /** 강좌별 메일박스 */
+    private final ConcurrentHashMap<Long, CourseMailbox> mailboxes = new ConcurrentHashMap<>();
+    /** 처리할 요청이 있고 어느 레인도 소유하지 않은 강좌 */
+    private final LinkedBlockingQueue<CourseMailbox> readyCourses = new LinkedBlockingQueue<>();
+    /** 전체 대기 요청 수 */
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+    /** 기한 만료로 버려진 요청 수 */
+    private final AtomicLong expiredCount = new AtomicLong(0);
+    private final List<Lane> lanes = new ArrayList<>();
+    private volatile boolean running;
+
+    public CoursePartitionedExecutor(EnrollmentProcessor enrollmentProcessor,
+                                     PriorityEnrollmentQueue queue,
+                                     SchedulingSettings schedulingSettings,
+                                     OutcomeBroadcaster outcomeBroadcaster) {
+        this.enrollmentProcessor = enrollmentProcessor;
+        this.queue = queue;
+        this.schedulingSettings = schedulingSettings;
+        this.outcomeBroadcaster = outcomeBroadcaster;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < Math.max(1, laneCount); i++) {
+            Lane lane = new Lane(i);
+            lanes.add(lane);
+            lane.thread.start();
+        }
+        log.info("Course-partitioned processing enabled: lanes={}, quantum={}", lanes.size(), quantum);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        lanes.forEach(lane -> lane.thread.interrupt());
+    }
+
+    /** partitioned 모드 여부 */
+    public boolean isEnabled() {
+        return "partitioned".equalsIgnoreCase(mode.trim());
+    }
+
+    /**
+     * 요청을 강좌 메일박스에 넣고, 강좌가 유휴 상태였다면 준비 큐에 올린다.
+     */
+    public void submit(EnrollmentRequest request) {
+        request.markEnqueued(System.nanoTime());
+        CourseMailbox mailbox = mailboxes.computeIfAbsent(request.getCourseId(),
+                id -> new CourseMailbox(id, schedulingSettings.createScheduler()));
+        mailbox.pending.offer(request);
+        pendingCount.incrementAndGet();
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            readyCourses.offer(mailbox);
+        }
+    }
+
+    /**
+     * 레인 스레드 본체: 준비된 강좌를 가져와 quantum 만큼 순차 처리
+     * 처리 중 Error가 나도 레인은 살아 있고 강좌 소유는 반드시 내려놓는다
+     * (그렇지 않으면 scheduled=true로 남은 강좌가 다시는 준비 큐에 오르지 못한다).
+     */
+    private void runLane(Lane lane) {
+        while (running) {
+            CourseMailbox mailbox;
+            try {
+                mailbox = readyCourses.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            lane.currentCourse = mailbox.courseId;
+            try {
+                drain(lane, mailbox);
+            } finally {
+                lane.currentCourse = null;
+                release(mailbox);
+            }
+        }
+    }
+
+    /** 강좌 메일박스에서 최대 quantum 건을 꺼내 처리 */
+    private void drain(Lane lane, CourseMailbox mailbox) {
+        int handled = 0;
+        EnrollmentRequest request;
+        while (handled < quantum && (request = mailbox.pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            try {
+                if (request.isExpired(System.currentTimeMillis())) {
+                    expiredCount.incrementAndGet();
+                    request.onExpired();
+                    continue;
+                }
+                process(request);
+                lane.processed.incrementAndGet();
+            } catch (Throwable t) {
+                lane.errors.incrementAndGet();
+                log.error("Lane {} failed on request: courseId={}, userId={}",
+                        lane.index, mailbox.courseId, request.getUserId(), t);
+                if (request instanceof CartEnrollmentRequest cart) {
+                    cart.getResult().completeExceptionally(t);
+                }
+            }
+            handled++;
+        }
+    }
+
+    /**
+     * 강좌 소유를 내려놓는다.
+     * - 남은 요청이 있으면 준비 큐 뒤로 보내 다른 강좌에 차례를 넘긴다.
+     * - 소유 해제와 새 요청 도착이 엇갈려도 요청이 고립되지 않도록 해제 후 다시 확인한다.
+     */
+    private void release(CourseMailbox mailbox) {
+        if (mailbox.pending.size() > 0) {
+            readyCourses.offer(mailbox);
+            return;
+        }
+        mailbox.scheduled.set(false);
+        if (mailbox.pending.size() > 0 && mailbox.scheduled.compareAndSet(false, true)) {
+            readyCourses.offer(mailbox);
+        }
+    }
+
+    private void process(EnrollmentRequest request) {
+        long startNs = System.nanoTime();
+        boolean success = false;
+        try {
+            success = EnrollmentDispatch.process(enrollmentProcessor, outcomeBroadcaster, request);
+        } finally {
+            queue.onProcessed(request, System.nanoTime() - startNs, success);
+        }
+    }
+
+    /** 대기 요청 수 */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /** 레인별 처리 수와 현재 소유 강좌, 강좌별 대기 수 스냅샷 */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        List<Map<String, Object>> laneStatus = new ArrayList<>();
+        for (Lane lane : lanes) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("lane", lane.index);
+            entry.put("currentCourse", lane.currentCourse);
+            entry.put("processed", lane.processed.get());
+            entry.put("errors", lane.errors.get());
+            laneStatus.add(entry);
+        }
+        Map<Long, Integer> pendingByCourse = new LinkedHashMap<>();
+        mailboxes.forEach((courseId, mailbox) -> pendingByCourse.put(courseId, mailbox.pending.size()));
+        status.put("lanes", laneStatus);
+        status.put("readyCourses", readyCourses.size());
+        status.put("pendingByCourse", pendingByCourse);
+        status.put("expiredCount", expiredCount.get());
+        return status;
+    }
+
+    /** 강좌 단위 대기 요청과 소유 여부 */
+    private static final class CourseMailbox {
+        private final Long courseId;
+        private final RequestScheduler pending;
+        /** 준비 큐에 올라가 있거나 레인이 소유 중이면 true */
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private CourseMailbox(Long courseId, RequestScheduler pending) {
+            this.courseId = courseId;
+            this.pending = pending;
+        }
+    }
+
+    /** 처리 레인 */
+    private final class Lane {
+        private final int index;
+        private final Thread thread;
+        private final AtomicLong processed = new AtomicLong(0);
+        /** 처리 중 잡히지 않고 올라온 예외/Error 수 */
+        private final AtomicLong errors = new AtomicLong(0);
+        private volatile Long currentCourse;
+
+        private Lane(int index) {
+            this.index = index;
+            this.thread = new Thread(() -> runLane(this), "course-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+    }
+}
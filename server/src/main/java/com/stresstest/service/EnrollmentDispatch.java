@@ -0,0 +1,48 @@
+package com.stresstest.service;
+
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.CartEnrollmentResult;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+/**
+ * 큐에서 꺼낸 요청을 종류에 맞는 트랜잭션 메서드로 넘기는 공용 처리 단계
+ * - 스레드 풀(pooled)과 강좌 레인(partitioned) 두 처리 경로가 함께 사용한다.
+ * - 장바구니 요청은 처리 결과(또는 예외)로 호출자의 future를 완료한다.
+ * - 처리 결과는 사용자 결과 스트림에도 발행한다(장바구니는 강좌별로 발행).
+ */
+final class EnrollmentDispatch {
+    private EnrollmentDispatch() {
+    }
+
+    /**
+     * 요청 한 건을 처리하고 리미터 샘플용 성공 여부를 반환
+     */
+    static boolean process(EnrollmentProcessor processor, OutcomeBroadcaster outcomes, EnrollmentRequest request) {
+        try {
+            if (request instanceof CartEnrollmentRequest cart) {
+                CartEnrollmentResult result = processor.processCart(cart);
+                cart.getResult().complete(result);
+                result.getResults().forEach(course ->
+                        outcomes.publish(cart, course.getCourseId(), course.isEnrolled(), course.getMessage()));
+                log.info("Cart processed: userId={}, success={}, rolledBack={}",
+                        cart.getUserId(), result.isSuccess(), result.isRolledBack());
+                return result.isSuccess();
+            }
+            EnrollmentService.EnrollmentResult result = processor.processEnrollment(request);
+            log.info("Enrollment processed: userId={}, success={}, message={}",
+                    request.getUserId(), result.isSuccess(), result.getMessage());
+            outcomes.publish(request, request.getCourseId(), result.isSuccess(), result.getMessage());
+            return result.isSuccess();
+        } catch (Exception e) {
+            log.error("Enrollment processing failed: userId={}, error={}", request.getUserId(), e.toString());
+            if (request instanceof CartEnrollmentRequest cart) {
+                cart.getResult().completeExceptionally(e);
+            }
+            outcomes.publish(request, request.getCourseId(), false, "Error: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.stresstest.service;
+
+import com.stresstest.fault.ProcessingFaultInjector;
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.CartEnrollmentResult;
+import com.stresstest.model.Course;
+import com.stresstest.model.Enrollment;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.model.WaitlistEntry;
+import com.stresstest.repository.CourseRepository;
+import com.stresstest.repository.EnrollmentRepository;
+import com.stresstest.repository.WaitlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+/**
+ * 트랜잭션 경계를 소유하고 비관적 락을 통해 등록 처리를 수행하는 컴포넌트
+ * - 별도 빈으로 분리하여 프록시를 통해 @Transactional이 적용되도록 함
+ */
+public class EnrollmentProcessor {
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistRepository waitlistRepository;
+    /** 벤치마크용 지연/락 정체/실패 주입 (fault.enabled=false 이면 동작 없음) */
+    private final ProcessingFaultInjector faultInjector;
+
+    /** 정원 초과 신청을 대기자로 등록할지 여부 */
+    @Value("${enrollment.waitlist.enabled:true}")
+    private boolean waitlistEnabled;
+
+    /**
+     * 단일 신청 요청을 트랜잭션 내에서 처리
+     * - 중복 신청 확인
+     * - 강좌 행을 비관적 락으로 조회
+     * - 정원 확인 및 등록 반영
+     * - 등록 레코드 저장
+     */
+    @Transactional
+    /** 
+     * ACID원칙을 보장
+     * 중복 신청, 조회, 등록, 저장 모두 하나라도 실패하는 경우 전부 롤백해야 하는 문제가 발생할 수 있기 때문에
+     * 하나의 Transactional 내에서 모두 처리하도록 함
+     * */
+    public EnrollmentService.EnrollmentResult processEnrollment(EnrollmentRequest request) {
+        try {
+            EnrollmentService.EnrollmentResult result = enrollCourse(
+                    request.getUserId(), request.getCourseId(), request.getPriority(), waitlistEnabled);
+            // 결과와 무관하게 트랜잭션마다 한 번 (중복/정원 초과/대기 등록도 커밋 단계는 거친다)
+            faultInjector.beforeCommit();
+            return result;
+        } catch (Exception e) {
+            log.error("Error processing enrollment: userId={}, courseId={}",
+                    request.getUserId(), request.getCourseId(), e);
+            // 예외를 결과로 바꿔 반환하므로 반영된 변경이 커밋되지 않도록 명시적으로 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new EnrollmentService.EnrollmentResult(false, "Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 장바구니 신청을 한 트랜잭션에서 처리
+     * - 강좌 락은 식별자 오름차순으로 획득한다. 모든 장바구니와 단건 신청(락 하나)이 같은 순서를 따르므로
+     *   여러 락을 잡는 트랜잭션끼리 순환 대기가 생기지 않는다.
+     * - ALL_OR_NOTHING: 첫 실패에서 멈추고 트랜잭션을 롤백 전용으로 표시한다. 대기자 등록도 하지 않는다.
+     * - BEST_EFFORT: 가능한 강좌만 등록하고, 정원이 찬 강좌는 단건 신청과 같이 대기자로 기록한다.
+     */
+    @Transactional
+    public CartEnrollmentResult processCart(CartEnrollmentRequest cart) {
+        boolean allOrNothing = cart.getMode() == CartEnrollmentRequest.Mode.ALL_OR_NOTHING;
+        List<CartEnrollmentResult.CourseOutcome> outcomes = new ArrayList<>();
+        int enrolledCount = 0;
+        try {
+            // getCourseIds()는 오름차순 - 락 획득 순서
+            for (Long courseId : cart.getCourseIds()) {
+                EnrollmentService.EnrollmentResult result = enrollCourse(
+                        cart.getUserId(), courseId, cart.getPriority(), waitlistEnabled && !allOrNothing);
+                outcomes.add(new CartEnrollmentResult.CourseOutcome(courseId, result.isSuccess(), result.getMessage()));
+                if (result.isSuccess()) {
+                    enrolledCount++;
+                } else if (allOrNothing) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            return failCart(cart, e);
+        }
+
+        if (allOrNothing && enrolledCount < cart.getCourseIds().size()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            List<CartEnrollmentResult.CourseOutcome> rolledBack = new ArrayList<>();
+            for (Long courseId : cart.getCourseIds()) {
+                CartEnrollmentResult.CourseOutcome outcome = rolledBack.size() < outcomes.size()
+                        ? outcomes.get(rolledBack.size()) : null;
+                String message = outcome == null ? "Skipped"
+                        : outcome.isEnrolled() ? "Rolled back" : outcome.getMessage();
+                rolledBack.add(new CartEnrollmentResult.CourseOutcome(courseId, false, message));
+            }
+            log.info("Cart rolled back: userId={}, courseIds={}", cart.getUserId(), cart.getCourseIds());
+            return new CartEnrollmentResult(false, cart.getMode(), true, rolledBack);
+        }
+
+        // 장바구니 트랜잭션마다 한 번 (강좌 수와 무관)
+        try {
+            faultInjector.beforeCommit();
+        } catch (RuntimeException e) {
+            return failCart(cart, e);
+        }
+
+        log.info("Cart processed: userId={}, mode={}, enrolled={}/{}",
+                cart.getUserId(), cart.getMode(), enrolledCount, cart.getCourseIds().size());
+        return new CartEnrollmentResult(enrolledCount > 0, cart.getMode(), false, outcomes);
+    }
+
+    /**
+     * 강좌 한 건 등록 (호출자의 트랜잭션 안에서 실행)
+     * - 중복 신청 확인
+     * - 강좌 행을 비관적 락으로 조회
+     * - 정원 확인 및 등록 반영
+     * - 등록 레코드 저장
+     */
+    private EnrollmentService.EnrollmentResult enrollCourse(Long userId, Long courseId, Integer priority, boolean waitlistOnFull) {
+        faultInjector.beforeCourseWork();
+        
+        // 이미 등록되어 있는지 확인 - 중복 신청 방지
+        if (enrollmentRepository.existsByUserIdAndCourseId(userId, courseId)) {
+            log.warn("User {} already enrolled in course {}", userId, courseId);
+            return new EnrollmentService.EnrollmentResult(false, "Already enrolled");
+        }
+
+        // 비관적 락으로 코스 조회 - 동시성 제어
+        Course course = courseRepository.findByIdWithLock(courseId)
+                .orElseThrow(() -> new RuntimeException("Course not found: " + courseId));
+        faultInjector.afterCourseLocked();
+
+        if (course.isFull()) {
+            log.warn("Course {} is full", courseId);
+            if (waitlistOnFull) {
+                return addToWaitlist(courseId, userId, priority);
+            }
+            return new EnrollmentService.EnrollmentResult(false, "Course is full");
+        }
+
+        // 등록 처리 - 정원 확인 및 등록 반영
+        boolean enrolled = course.enroll();
+        if (!enrolled) {
+            return new EnrollmentService.EnrollmentResult(false, "Failed to enroll");
+        }
+
+        courseRepository.save(course);
+
+        // 등록 정보 저장 - 등록 레코드 저장
+        Enrollment enrollment = new Enrollment(
+                userId,
+                course,
+                LocalDateTime.now(),
+                Enrollment.EnrollmentStatus.SUCCESS
+        );
+        enrollmentRepository.save(enrollment);
+
+        log.info("Enrollment successful: userId={}, courseId={}", userId, courseId);
+        return new EnrollmentService.EnrollmentResult(true, "Enrollment successful");
+    }
+
+    /** 처리 중 예외: 영속성 컨텍스트 상태를 신뢰할 수 없으므로 모드와 무관하게 전체 롤백 */
+    private CartEnrollmentResult failCart(CartEnrollmentRequest cart, Exception e) {
+        log.error("Error processing cart: userId={}, courseIds={}", cart.getUserId(), cart.getCourseIds(), e);
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        return new CartEnrollmentResult(false, cart.getMode(), true,
+                uniformOutcomes(cart.getCourseIds(), "Error: " + e.getMessage()));
+    }
+
+    private static List<CartEnrollmentResult.CourseOutcome> uniformOutcomes(List<Long> courseIds, String message) {
+        List<CartEnrollmentResult.CourseOutcome> outcomes = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            outcomes.add(new CartEnrollmentResult.CourseOutcome(courseId, false, message));
+        }
+        return outcomes;
+    }
+
+    /**
+     * 정원이 찬 강좌에 대한 신청을 대기자로 기록
+     * - 강좌 행 락을 잡은 상태에서 호출되므로 같은 강좌의 대기 등록/승격과 직렬화된다.
+     */
+    private EnrollmentService.EnrollmentResult addToWaitlist(Long courseId, Long userId, Integer priority) {
+        if (!waitlistRepository.existsByCourseIdAndUserId(courseId, userId)) {
+            waitlistRepository.save(new WaitlistEntry(courseId, userId, priority, LocalDateTime.now()));
+            log.info("User {} waitlisted for course {}", userId, courseId);
+        }
+        return new EnrollmentService.EnrollmentResult(false, "Waitlisted");
+    }
+
+    /**
+     * 수강 취소를 트랜잭션 내에서 처리
+     * - 강좌 행을 비관적 락으로 조회 (강좌가 없으면 취소 실패 결과)
+     * - 등록 레코드가 있으면 삭제하고 현재 인원을 감소
+     * - 비워진 좌석에 다음 대기자를 같은 트랜잭션에서 승격
+     * - 등록 레코드가 없으면 대기 항목만 삭제
+     */
+    @Transactional
+    public EnrollmentService.CancellationResult cancelEnrollment(Long userId, Long courseId) {
+        Optional<Course> locked = courseRepository.findByIdWithLock(courseId);
+        if (locked.isEmpty()) {
+            return new EnrollmentService.CancellationResult(false, "Course not found", null);
+        }
+        Course course = locked.get();
+
+        Optional<Enrollment> enrollment = enrollmentRepository.findByUserIdAndCourseId(userId, courseId);
+        if (enrollment.isEmpty()) {
+            Optional<WaitlistEntry> waiting = waitlistRepository.findByCourseIdAndUserId(courseId, userId);
+            if (waiting.isEmpty()) {
+                return new EnrollmentService.CancellationResult(false, "Not enrolled", null);
+            }
+            waitlistRepository.delete(waiting.get());
+            log.info("User {} left waitlist of course {}", userId, courseId);
+            return new EnrollmentService.CancellationResult(true, "Removed from waitlist", null);
+        }
+
+        enrollmentRepository.delete(enrollment.get());
+        course.cancelEnrollment();
+
+        // 대기자 승격 - 비워진 좌석을 같은 트랜잭션에서 다음 대기자에게 배정
+        Long promotedUserId = null;
+        Optional<WaitlistEntry> next = waitlistRepository.findFirstByCourseIdOrderByPriorityAscIdAsc(courseId);
+        if (next.isPresent() && course.enroll()) {
+            WaitlistEntry entry = next.get();
+            waitlistRepository.delete(entry);
+            enrollmentRepository.save(new Enrollment(
+                    entry.getUserId(),
+                    course,
+                    LocalDateTime.now(),
+                    Enrollment.EnrollmentStatus.SUCCESS
+            ));
+            promotedUserId = entry.getUserId();
+            log.info("User {} promoted from waitlist of course {}", promotedUserId, courseId);
+        }
+        courseRepository.save(course);
+
+        log.info("Enrollment cancelled: userId={}, courseId={}, promotedUserId={}", userId, courseId, promotedUserId);
+        return new EnrollmentService.CancellationResult(true, "Enrollment cancelled", promotedUserId);
+    }
+
+    /**
+     * 대기 순번 조회 (1부터 시작). 대기 중이 아니면 null
+     */
+    @Transactional(readOnly = true)
+    public Long getWaitlistPosition(Long userId, Long courseId) {
+        return waitlistRepository.findByCourseIdAndUserId(courseId, userId)
+                .map(entry -> waitlistRepository.countAhead(courseId, entry.getPriority(), entry.getId()) + 1)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.stresstest.service;
+
+import com.stresstest.model.EnrollmentView;
+import com.stresstest.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+/**
+ * 등록 내역 조회 전용 서비스
+ * - 엔티티를 노출하지 않고 프로젝션을 키셋 페이지 단위로 반환한다.
+ */
+public class EnrollmentQueryService {
+    /** 한 페이지 최대 건수 */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    /**
+     * 사용자 등록 내역 한 페이지를 조회
+     * - 한 건을 더 조회하여 다음 페이지 존재 여부를 판단한다.
+     *
+     * @param afterId 이전 페이지의 nextCursor (첫 페이지는 0)
+     * @param size    페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public UserEnrollmentPage findUserEnrollments(Long userId, long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+        List<EnrollmentView> rows = enrollmentRepository.findViewsByUserId(userId, afterId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<EnrollmentView> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new UserEnrollmentPage(userId, items, nextCursor);
+    }
+
+    /**
+     * 사용자 등록 내역 페이지
+     */
+    public static class UserEnrollmentPage {
+        private final Long userId;
+        private final List<EnrollmentView> items;
+        /** 다음 페이지 조회에 사용할 커서. 마지막 페이지면 null */
+        private final Long nextCursor;
+
+        public UserEnrollmentPage(Long userId, List<EnrollmentView> items, Long nextCursor) {
+            this.userId = userId;
+            this.items = items;
+            this.nextCursor = nextCursor;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public List<EnrollmentView> getItems() {
+            return items;
+        }
+
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
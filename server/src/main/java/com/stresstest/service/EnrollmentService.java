@@ -0,0 +1,175 @@
+package com.stresstest.service;
+
+import com.stresstest.model.CancellationRequest;
+import com.stresstest.model.CartEnrollmentRequest;
+import com.stresstest.model.CartEnrollmentResult;
+import com.stresstest.model.EnrollmentRequest;
+import com.stresstest.outcome.OutcomeBroadcaster;
+import com.stresstest.queue.PriorityEnrollmentQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+/**
+ * 수강 신청 처리 비즈니스 로직.
+ * - 요청을 큐에 적재하고 비동기적으로 처리
+ * - 실제 등록 처리는 별도 트랜잭션 빈(EnrollmentProcessor)에서 수행
+ */
+public class EnrollmentService {
+    /** 우선순위 기반 신청 대기열 */
+    private final PriorityEnrollmentQueue queue;
+    /** 트랜잭션 경계를 소유한 처리기 */
+    private final EnrollmentProcessor enrollmentProcessor;
+    /** 강좌 단위 단일 작성자 레인 실행기 (partitioned 모드) */
+    private final CoursePartitionedExecutor partitionedExecutor;
+    /** 처리 결과 SSE 발행기 */
+    private final OutcomeBroadcaster outcomeBroadcaster;
+    /** 백그라운드 처리 스레드 풀: 처리 동시성은 큐가 제어하므로 캐시드 사용 */
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    /**
+     * 신청 요청을 큐에 적재하고 비동기 처리 실행을 트리거
+     * 명령의 완료를 기다리지 않고 수행하도록 설정하였기 때문에, 과한 요청시 에러가 발생
+     * partitioned 모드에서는 강좌별 레인 실행기로 넘긴다.
+     */
+    public void requestEnrollment(EnrollmentRequest request) {
+        log.info("Enrollment request received: userId={}, courseId={}, priority={}", 
+                request.getUserId(), request.getCourseId(), request.getPriority());
+        if (partitionedExecutor.isEnabled()) {
+            partitionedExecutor.submit(request);
+            return;
+        }
+        queue.addRequest(request);
+        
+        // 비동기로 처리 시작
+        CompletableFuture.runAsync(this::processQueue, executorService);
+    }
+    
+    /**
+     * 장바구니 신청을 한 건의 큐 요청으로 적재하고 처리 결과 future를 반환
+     * 기한 만료로 버려지면 future가 취소된다.
+     * partitioned 모드에서는 한 레인이 다른 레인 소유 강좌의 행 락을 잡게 되므로(강좌별 단일 작성자 위반)
+     * 여러 강좌 장바구니를 받지 않고 UnsupportedCartException으로 완료한다.
+     */
+    public CompletableFuture<CartEnrollmentResult> requestCart(CartEnrollmentRequest cart) {
+        if (partitionedExecutor.isEnabled() && cart.getCourseIds().size() > 1) {
+            return CompletableFuture.failedFuture(new UnsupportedCartException(
+                    "Multi-course carts are not supported in partitioned processing mode"));
+        }
+        requestEnrollment(cart);
+        return cart.getResult();
+    }
+    
+    /**
+     * 수강 취소를 즉시 처리하고, 비워진 좌석에 대기자를 승격
+     */
+    public CancellationResult cancelEnrollment(CancellationRequest request) {
+        log.info("Cancellation request received: userId={}, courseId={}", request.getUserId(), request.getCourseId());
+        return enrollmentProcessor.cancelEnrollment(request.getUserId(), request.getCourseId());
+    }
+    
+    /**
+     * 대기 순번을 조회 (대기 중이 아니면 null)
+     */
+    public Long getWaitlistPosition(Long userId, Long courseId) {
+        return enrollmentProcessor.getWaitlistPosition(userId, courseId);
+    }
+    
+    /**
+     * 큐에서 요청을 꺼내 처리하고, 슬롯 반환 후 후속 처리를 연쇄적으로 트리거
+     */
+    private void processQueue() {
+        EnrollmentRequest request = queue.pollRequest();
+        if (request == null) {
+            return;
+        }
+        
+        long startNs = System.nanoTime();
+        boolean success = false;
+        try {
+            success = EnrollmentDispatch.process(enrollmentProcessor, outcomeBroadcaster, request);
+        } finally {
+            long durationNs = System.nanoTime() - startNs;
+            queue.onProcessed(request, durationNs, success);
+            queue.releaseSlot(request);
+            // 다음 요청 처리
+            if (queue.getQueueSize() > 0) {
+                CompletableFuture.runAsync(this::processQueue, executorService);
+            }
+        }
+    }
+    
+    /**
+     * 컨텍스트 종료 시 처리 스레드 풀 정리 (한 JVM에서 여러 서버 컨텍스트를 띄웠다 내리는 클러스터 모드용)
+     */
+    @PreDestroy
+    void shutdown() {
+        executorService.shutdown();
+    }
+    
+    /**
+     * 등록 처리 결과를 나타내는 불변 값 객체
+     */
+    public static class EnrollmentResult {
+        private final boolean success;
+        private final String message;
+        
+        /** 결과 객체 생성자 */
+        public EnrollmentResult(boolean success, String message) {
+            this.success = success;
+            this.message = message;
+        }
+        
+        /** 성공 여부 */
+        public boolean isSuccess() {
+            return success;
+        }
+        
+        /** 결과 메시지 */
+        public String getMessage() {
+            return message;
+        }
+    }
+    
+    /**
+     * 취소 처리 결과를 나타내는 불변 값 객체
+     */
+    public static class CancellationResult {
+        private final boolean cancelled;
+        private final String message;
+        /** 비워진 좌석에 승격된 대기자 (없으면 null) */
+        private final Long promotedUserId;
+        
+        /** 결과 객체 생성자 */
+        public CancellationResult(boolean cancelled, String message, Long promotedUserId) {
+            this.cancelled = cancelled;
+            this.message = message;
+            this.promotedUserId = promotedUserId;
+        }
+        
+        /** 취소 여부 */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        /** 결과 메시지 */
+        public String getMessage() {
+            return message;
+        }
+        
+        /** 승격된 대기자 */
+        public Long getPromotedUserId() {
+            return promotedUserId;
+        }
+    }
+}
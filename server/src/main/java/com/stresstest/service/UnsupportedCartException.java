@@ -0,0 +1,11 @@
+package com.stresstest.service;
+
+/**
+ * 현재 처리 방식이 받을 수 없는 장바구니 (partitioned 모드의 여러 강좌 장바구니)
+ * 처리 중 발생한 다른 오류와 구분하여 409로 응답할 수 있도록 별도 타입으로 던진다.
+ */
+public class UnsupportedCartException extends RuntimeException {
+    public UnsupportedCartException(String message) {
+        super(message);
+    }
+}
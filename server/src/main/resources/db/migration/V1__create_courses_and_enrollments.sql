@@ -0,0 +1,28 @@
+-- 강좌/수강 등록 초기 스키마
+-- ID는 풀링 시퀀스(increment 50)로 발급하여 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있게 한다.
+-- (IDENTITY는 INSERT 직후 생성 키를 받아야 하므로 배치가 비활성화된다)
+
+CREATE SEQUENCE courses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE enrollments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE courses (
+    id                 BIGINT       NOT NULL PRIMARY KEY,
+    name               VARCHAR(255) NOT NULL,
+    capacity           INTEGER      NOT NULL,
+    current_enrollment INTEGER      NOT NULL
+);
+
+CREATE TABLE enrollments (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    user_id     BIGINT      NOT NULL,
+    course_id   BIGINT      NOT NULL REFERENCES courses (id),
+    enrolled_at TIMESTAMP   NOT NULL,
+    status      VARCHAR(16) NOT NULL
+);
+
+-- 중복 신청 방지 및 existsByUserIdAndCourseId 조회용.
+-- 선행 컬럼이 user_id 이므로 findByUserId 조회도 이 인덱스로 처리된다.
+CREATE UNIQUE INDEX ux_enrollments_user_course ON enrollments (user_id, course_id);
+
+-- 외래 키 검사 및 강좌 단위 조회용
+CREATE INDEX ix_enrollments_course ON enrollments (course_id);
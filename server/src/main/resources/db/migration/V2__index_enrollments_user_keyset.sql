@@ -0,0 +1,2 @@
+-- 사용자별 등록 내역 키셋 페이지 조회용 (WHERE user_id = ? AND id > ? ORDER BY id)
+CREATE INDEX ix_enrollments_user_id_id ON enrollments (user_id, id);
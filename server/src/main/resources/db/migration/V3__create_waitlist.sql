@@ -0,0 +1,18 @@
+-- 정원이 찬 강좌의 대기자 명단
+-- 승격 순서(priority, id)에 맞춘 인덱스로 다음 대기자를 인덱스 첫 항목으로 찾는다.
+
+CREATE SEQUENCE waitlist_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE waitlist_entries (
+    id         BIGINT    NOT NULL PRIMARY KEY,
+    course_id  BIGINT    NOT NULL REFERENCES courses (id),
+    user_id    BIGINT    NOT NULL,
+    priority   INTEGER   NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- 강좌당 한 사용자는 한 번만 대기
+CREATE UNIQUE INDEX ux_waitlist_course_user ON waitlist_entries (course_id, user_id);
+
+-- 승격 순서
+CREATE INDEX ix_waitlist_course_order ON waitlist_entries (course_id, priority, id);
@@ -0,0 +1,4 @@
+-- 강좌별 등록 내역 내보내기용 (WHERE course_id = ? AND id > ? ORDER BY id)
+-- 선행 컬럼이 course_id 이므로 외래 키 검사/강좌 단위 조회용 단일 컬럼 인덱스를 대체한다.
+CREATE INDEX ix_enrollments_course_id_id ON enrollments (course_id, id);
+DROP INDEX ix_enrollments_course;